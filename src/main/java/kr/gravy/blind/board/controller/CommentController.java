@@ -78,6 +78,25 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * @param commentPublicId 부모 댓글 publicId
+     * @param cursor          댓글 목록의 nextReplyCursor 또는 이전 응답의 nextCursor
+     * @param size            페이지 크기
+     * @param user            현재 로그인한 사용자
+     * @return 200 OK + 대댓글 목록 (커서 기반)
+     */
+    @Operation(summary = "대댓글 더보기", description = "댓글의 대댓글을 커서 기반으로 조회합니다")
+    @GetMapping("/api/v1/comments/{commentPublicId}/replies")
+    public ResponseEntity<GetCommentsDto.ReplySliceResponse> getReplies(
+            @PathVariable UUID commentPublicId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentApprovedUser User user
+    ) {
+        GetCommentsDto.ReplySliceResponse response = commentService.getReplies(commentPublicId, user, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * @param commentPublicId 댓글 publicId
      * @param user            현재 로그인한 사용자
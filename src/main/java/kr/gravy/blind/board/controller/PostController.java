@@ -6,7 +6,9 @@ import jakarta.validation.Valid;
 import kr.gravy.blind.auth.annotation.CurrentApprovedUser;
 import kr.gravy.blind.board.dto.*;
 import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostSearchSort;
 import kr.gravy.blind.board.service.PostSearchService;
+import kr.gravy.blind.board.service.PostSearchSuggestService;
 import kr.gravy.blind.board.service.PostService;
 import kr.gravy.blind.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,7 @@ public class PostController {
 
     private final PostService postService;
     private final PostSearchService postSearchService;
+    private final PostSearchSuggestService postSearchSuggestService;
 
     @Operation(summary = "게시글 작성", description = "익명 게시판에 게시글을 작성합니다")
     @PostMapping("/api/v1/posts")
@@ -48,6 +51,18 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "카테고리별 게시글 피드 조회 (커서)", description = "커서 기반으로 카테고리별 게시글을 조회합니다 (전체 개수 미제공, 무한 스크롤용)")
+    @GetMapping("/api/v1/posts/feed")
+    public ResponseEntity<GetListPostDto.CursorResponse> getPostFeedByCategory(
+            @RequestParam PostCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentApprovedUser User user
+    ) {
+        GetListPostDto.CursorResponse response = postService.getPostFeedByCategory(category, user, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보를 조회합니다 (조회수 증가)")
     @GetMapping("/api/v1/posts/{publicId}")
     public ResponseEntity<GetDetailPostDto.Response> getPost(
@@ -65,19 +80,48 @@ public class PostController {
             @CurrentApprovedUser User user,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable
     ) {
-        GetListPostDto.PageResponse response = postService.getHotPosts(pageable);
+        GetListPostDto.PageResponse response = postService.getHotPosts(user, pageable);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "게시글 검색", description = "Elasticsearch + Nori를 사용한 한글 형태소 분석 기반 게시글 검색 (제목 + 내용)")
+    @Operation(summary = "게시글 검색", description = "Elasticsearch + Nori를 사용한 한글 형태소 분석 기반 게시글 검색 (제목 + 내용, sort=RELEVANCE면 관련도 + 최신성 + 공감/댓글 수 순)")
     @GetMapping("/api/v1/posts/search")
     public ResponseEntity<PostSearchDto.PageResponse> searchPosts(
             @RequestParam(required = true) String keyword,
             @RequestParam(required = false) PostCategory category,
+            @RequestParam(defaultValue = "LATEST") PostSearchSort sort,
             @CurrentApprovedUser User user,
             @PageableDefault(size = 20) Pageable pageable
     ) {
-        PostSearchDto.PageResponse response = postSearchService.searchPosts(keyword, category, pageable);
+        PostSearchDto.PageResponse response = postSearchService.searchPosts(keyword, category, sort, pageable, user);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "게시글 검색 (커서)", description = "search_after 커서 기반 게시글 검색 (pointInTime=true면 첫 조회 시점 스냅샷 유지, withTotal=true면 전체 개수 포함)")
+    @GetMapping("/api/v1/posts/search/cursor")
+    public ResponseEntity<PostSearchDto.CursorResponse> searchPostsByCursor(
+            @RequestParam(required = true) String keyword,
+            @RequestParam(required = false) PostCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean pointInTime,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @CurrentApprovedUser User user
+    ) {
+        PostSearchDto.CursorResponse response = postSearchService.searchPostsByCursor(
+                keyword, category, cursor, size, pointInTime, withTotal, user);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 접두어로 게시글 제목을 추천합니다 (제목 + ID만 반환)")
+    @GetMapping("/api/v1/posts/search/suggest")
+    public ResponseEntity<PostSearchDto.SuggestResponse> suggestPosts(
+            @RequestParam String prefix,
+            @RequestParam(required = false) PostCategory category,
+            @RequestParam(defaultValue = "5") int size,
+            @CurrentApprovedUser User user
+    ) {
+        PostSearchDto.SuggestResponse response = postSearchSuggestService.suggest(prefix, category, size, user);
         return ResponseEntity.ok(response);
     }
 
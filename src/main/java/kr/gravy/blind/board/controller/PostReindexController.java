@@ -0,0 +1,64 @@
+package kr.gravy.blind.board.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.gravy.blind.admin.entity.Admin;
+import kr.gravy.blind.auth.annotation.CurrentAdmin;
+import kr.gravy.blind.board.dto.PostReindexDto;
+import kr.gravy.blind.board.service.PostDltReplayService;
+import kr.gravy.blind.board.service.PostReindexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "검색 인덱스 관리", description = "게시글 검색 인덱스 재구축 API (관리자 전용)")
+@RestController
+@RequiredArgsConstructor
+public class PostReindexController {
+
+    private final PostReindexService postReindexService;
+    private final PostDltReplayService postDltReplayService;
+
+    @Operation(summary = "검색 재인덱싱 시작", description = "게시글 전체를 검색 인덱스에 다시 반영합니다 (resume=true면 체크포인트부터 재개)")
+    @PostMapping("/api/v1/admin/search/reindex")
+    public ResponseEntity<PostReindexDto.StatusResponse> startReindex(
+            @CurrentAdmin Admin admin,
+            @RequestParam(defaultValue = "true") boolean resume
+    ) {
+        boolean started = postReindexService.start(resume, false);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(postReindexService.getStatus());
+    }
+
+    @Operation(summary = "검색 인덱스 재구축", description = "새 인덱스(posts_v{n})로 전체 재인덱싱 후 별칭을 원자적으로 교체합니다 (검색 중단 없음)")
+    @PostMapping("/api/v1/admin/search/rebuild")
+    public ResponseEntity<PostReindexDto.StatusResponse> startRebuild(
+            @CurrentAdmin Admin admin,
+            @RequestParam(defaultValue = "true") boolean resume
+    ) {
+        boolean started = postReindexService.start(resume, true);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(postReindexService.getStatus());
+    }
+
+    @Operation(summary = "검색 재인덱싱 상태 조회", description = "진행 상태 및 체크포인트를 조회합니다")
+    @GetMapping("/api/v1/admin/search/reindex")
+    public ResponseEntity<PostReindexDto.StatusResponse> getReindexStatus(@CurrentAdmin Admin admin) {
+        return ResponseEntity.ok(postReindexService.getStatus());
+    }
+
+    @Operation(summary = "인덱싱 DLT 재처리 시작", description = "post-indexing-dlt에 쌓인 실패 메시지를 게시글별 최신 버전으로 다시 반영합니다 (속도 제한)")
+    @PostMapping("/api/v1/admin/search/dlt/replay")
+    public ResponseEntity<PostReindexDto.DltReplayStatusResponse> startDltReplay(@CurrentAdmin Admin admin) {
+        boolean started = postDltReplayService.start();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(postDltReplayService.getStatus());
+    }
+
+    @Operation(summary = "인덱싱 DLT 재처리 상태 조회", description = "처리 건수 및 재처리 후에도 남은 실패를 조회합니다")
+    @GetMapping("/api/v1/admin/search/dlt/replay")
+    public ResponseEntity<PostReindexDto.DltReplayStatusResponse> getDltReplayStatus(@CurrentAdmin Admin admin) {
+        return ResponseEntity.ok(postDltReplayService.getStatus());
+    }
+}
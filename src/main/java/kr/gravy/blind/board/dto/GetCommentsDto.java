@@ -23,16 +23,20 @@ public class GetCommentsDto {
             Boolean isAuthor,
             @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
             LocalDateTime createdAt,
-            List<ReplyResponse> replies  // 대댓글 리스트
+            List<ReplyResponse> replies,  // 대댓글 미리보기 리스트
+            boolean hasMoreReplies,
+            String nextReplyCursor  // 대댓글 더보기 커서 (없으면 null)
     ) {
         /**
-         * @param comment  Comment 엔티티
-         * @param isLiked  현재 사용자 좋아요 여부
-         * @param isAuthor 현재 사용자 작성 여부
-         * @param replies  대댓글 리스트
+         * @param comment         Comment 엔티티
+         * @param isLiked         현재 사용자 좋아요 여부
+         * @param isAuthor        현재 사용자 작성 여부
+         * @param replies         대댓글 미리보기 리스트
+         * @param nextReplyCursor 대댓글 더보기 커서 (미리보기 이후 대댓글이 없으면 null)
          * @return CommentResponse DTO
          */
-        public static CommentResponse of(Comment comment, boolean isLiked, boolean isAuthor, List<ReplyResponse> replies) {
+        public static CommentResponse of(Comment comment, boolean isLiked, boolean isAuthor,
+                                         List<ReplyResponse> replies, String nextReplyCursor) {
             return new CommentResponse(
                     comment.getPublicId(),
                     comment.getAuthorGender(),
@@ -43,7 +47,9 @@ public class GetCommentsDto {
                     comment.isDeleted() ? false : isLiked,
                     comment.isDeleted() ? false : isAuthor,
                     comment.getCreatedAt(),
-                    replies
+                    replies,
+                    nextReplyCursor != null,
+                    nextReplyCursor
             );
         }
     }
@@ -81,6 +87,23 @@ public class GetCommentsDto {
         }
     }
 
+    /**
+     * 대댓글 더보기 응답 (커서 기반)
+     *
+     * @param replies    대댓글 목록
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     * @param hasNext    다음 페이지 존재 여부
+     */
+    public record ReplySliceResponse(
+            List<ReplyResponse> replies,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static ReplySliceResponse of(List<ReplyResponse> replies, String nextCursor) {
+            return new ReplySliceResponse(replies, nextCursor, nextCursor != null);
+        }
+    }
+
     public record PageResponse(
             List<CommentResponse> content,
             int pageNumber,
@@ -1,8 +1,9 @@
 package kr.gravy.blind.board.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import kr.gravy.blind.board.entity.Post;
 import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostCounts;
+import kr.gravy.blind.board.model.PostDetailSnapshot;
 import kr.gravy.blind.board.model.PostStatus;
 import kr.gravy.blind.user.model.Gender;
 
@@ -11,6 +12,8 @@ import java.util.UUID;
 
 public class GetDetailPostDto {
 
+    private static final String DELETED_POST_MESSAGE = "삭제된 게시글입니다";
+
     public record Response(
             UUID publicId,
             PostCategory category,
@@ -33,25 +36,32 @@ public class GetDetailPostDto {
             LocalDateTime updatedAt
     ) {
 
-        public static Response of(Post post, boolean isLikedByCurrentUser, boolean isAuthor, String imageUrl) {
+        /**
+         * @param post                 게시글 상세 캐시 값
+         * @param counts               카운터 값 (MySQL 미반영 증가분 합산)
+         * @param isHot                인기글 여부
+         * @param isLikedByCurrentUser 현재 사용자 공감 여부
+         * @param isAuthor             현재 사용자 작성 여부
+         */
+        public static Response of(PostDetailSnapshot post, PostCounts counts, boolean isHot, boolean isLikedByCurrentUser, boolean isAuthor) {
             return new Response(
-                    post.getPublicId(),
-                    post.getCategory(),
-                    post.getAuthorGender(),
-                    post.getAnonymousNickname(),
-                    post.getDisplayTitle(),
-                    post.getDisplayContent(),
-                    post.getStatus(),
-                    post.getViewCount(),
-                    post.getLikeCount(),
-                    post.getCommentCount(),
-                    post.getIsPinned(),
-                    post.getIsHot(),
+                    post.publicId(),
+                    post.category(),
+                    post.authorGender(),
+                    post.anonymousNickname(),
+                    post.isDeleted() ? DELETED_POST_MESSAGE : post.title(),
+                    post.isDeleted() ? DELETED_POST_MESSAGE : post.content(),
+                    post.status(),
+                    counts.viewCount(),
+                    counts.likeCount(),
+                    counts.commentCount(),
+                    post.isPinned(),
+                    isHot,
                     post.isDeleted() ? false : isLikedByCurrentUser,
                     post.isDeleted() ? false : isAuthor,
-                    post.isDeleted() ? null : imageUrl,
-                    post.getCreatedAt(),
-                    post.getUpdatedAt()
+                    post.isDeleted() ? null : post.imageUrl(),
+                    post.createdAt(),
+                    post.updatedAt()
             );
         }
     }
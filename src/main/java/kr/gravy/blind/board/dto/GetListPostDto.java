@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
@@ -41,6 +42,69 @@ public class GetListPostDto {
                     page.isLast()
             );
         }
+
+        /**
+         * @param likedPublicIds 현재 사용자가 공감한 게시글 Public ID
+         * @return 공감 여부가 반영된 PageResponse (캐시된 공용 응답 위에 사용자별 합성)
+         */
+        public PageResponse withLikedPostIds(Set<UUID> likedPublicIds) {
+            return new PageResponse(
+                    ListResponse.markLiked(content, likedPublicIds),
+                    pageNumber,
+                    pageSize,
+                    totalElements,
+                    totalPages,
+                    first,
+                    last
+            );
+        }
+
+        /**
+         * 이미 조립된 목록 페이지 응답 (인기글 스냅샷 등)
+         */
+        public static PageResponse from(Page<ListResponse> page) {
+            return new PageResponse(
+                    page.getContent(),
+                    page.getNumber(),
+                    page.getSize(),
+                    page.getTotalElements(),
+                    page.getTotalPages(),
+                    page.isFirst(),
+                    page.isLast()
+            );
+        }
+    }
+
+    /**
+     * 커서 기반 피드 응답 (COUNT 없음)
+     *
+     * @param content    게시글 목록
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     * @param hasNext    다음 페이지 존재 여부
+     */
+    public record CursorResponse(
+            List<ListResponse> content,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static CursorResponse of(List<Post> posts, List<String> imageUrls, String nextCursor, boolean hasNext) {
+            List<ListResponse> content = IntStream.range(0, posts.size())
+                    .mapToObj(index -> ListResponse.of(
+                            posts.get(index),
+                            imageUrls.get(index)
+                    ))
+                    .toList();
+
+            return new CursorResponse(content, nextCursor, hasNext);
+        }
+
+        /**
+         * @param likedPublicIds 현재 사용자가 공감한 게시글 Public ID
+         * @return 공감 여부가 반영된 CursorResponse
+         */
+        public CursorResponse withLikedPostIds(Set<UUID> likedPublicIds) {
+            return new CursorResponse(ListResponse.markLiked(content, likedPublicIds), nextCursor, hasNext);
+        }
     }
 
     public record ListResponse(
@@ -54,6 +118,7 @@ public class GetListPostDto {
             Integer commentCount,
             Boolean isPinned,
             Boolean isHot,
+            Boolean isLikedByCurrentUser,
             Boolean hasImage,
             String imageUrl,
             @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -72,11 +137,42 @@ public class GetListPostDto {
                     post.getCommentCount(),
                     post.getIsPinned(),
                     post.getIsHot(),
+                    false,                                          // 사용자별 값은 withLikedPostIds로 합성
                     post.isDeleted() ? false : (imageUrl != null),  // 삭제된 게시글은 이미지 숨김
                     post.isDeleted() ? null : imageUrl,             // 삭제된 게시글은 imageUrl null
                     post.getCreatedAt()
             );
         }
+
+        /**
+         * @param items          목록 항목
+         * @param likedPublicIds 현재 사용자가 공감한 게시글 Public ID
+         * @return 공감 여부가 반영된 목록 (삭제된 게시글은 false)
+         */
+        static List<ListResponse> markLiked(List<ListResponse> items, Set<UUID> likedPublicIds) {
+            return items.stream()
+                    .map(item -> item.withLiked(item.status() != PostStatus.DELETED && likedPublicIds.contains(item.publicId())))
+                    .toList();
+        }
+
+        private ListResponse withLiked(boolean isLiked) {
+            return new ListResponse(
+                    publicId,
+                    category,
+                    authorGender,
+                    title,
+                    status,
+                    viewCount,
+                    likeCount,
+                    commentCount,
+                    isPinned,
+                    isHot,
+                    isLiked,
+                    hasImage,
+                    imageUrl,
+                    createdAt
+            );
+        }
     }
 
     /**
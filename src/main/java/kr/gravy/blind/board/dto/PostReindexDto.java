@@ -0,0 +1,66 @@
+package kr.gravy.blind.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PostReindexDto {
+
+    /**
+     * 재인덱싱 진행 상태
+     *
+     * @param running         이 인스턴스에서 실행 중 여부
+     * @param targetIndex     반영 대상 인덱스 (쓰기 별칭 또는 재구축 중인 물리 인덱스)
+     * @param checkpoint      마지막으로 반영 완료된 게시글 id (없으면 null)
+     * @param indexedCount    이번 실행에서 인덱싱한 게시글 수
+     * @param deletedCount    이번 실행에서 삭제 반영한 게시글 수
+     * @param conflictedCount 더 높은 버전이 이미 반영되어 적용되지 않은 게시글 수 (인덱싱/삭제 수에서 제외)
+     * @param startedAt       이번 실행 시작 시각
+     * @param finishedAt      이번 실행 종료 시각 (실행 중이면 null)
+     * @param failureMessage  실패 사유 (성공/실행 중이면 null)
+     */
+    public record StatusResponse(
+            boolean running,
+            String targetIndex,
+            Long checkpoint,
+            long indexedCount,
+            long deletedCount,
+            long conflictedCount,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String failureMessage
+    ) {
+    }
+
+    /**
+     * DLT 재처리 진행 상태
+     *
+     * @param running          이 인스턴스에서 실행 중 여부
+     * @param readCount        이번 실행에서 읽은 DLT 레코드 수
+     * @param duplicateCount   같은 게시글의 이전 버전이라 생략된 레코드 수
+     * @param unparseableCount 역직렬화 불가 레코드 수 (재처리 불가, 정합성 점검으로 복구)
+     * @param replayedCount    재반영한 게시글 작업 수
+     * @param failedCount      재반영 후에도 실패한 게시글 수
+     * @param failedIds        실패 게시글 ID (최대 DLT_REPLAY_FAILED_ID_SAMPLE_SIZE개)
+     * @param remainingCount   시작 시점 끝 오프셋까지 남은 레코드 수
+     * @param startedAt        이번 실행 시작 시각
+     * @param finishedAt       이번 실행 종료 시각 (실행 중이면 null)
+     * @param failureMessage   실패 사유 (성공/실행 중이면 null)
+     */
+    public record DltReplayStatusResponse(
+            boolean running,
+            long readCount,
+            long duplicateCount,
+            long unparseableCount,
+            long replayedCount,
+            long failedCount,
+            List<String> failedIds,
+            long remainingCount,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            String failureMessage
+    ) {
+    }
+
+    private PostReindexDto() {
+    }
+}
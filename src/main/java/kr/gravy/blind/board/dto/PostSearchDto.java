@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class PostSearchDto {
@@ -26,43 +27,51 @@ public class PostSearchDto {
     }
 
     /**
-     * @param publicId  게시글 Public ID
-     * @param title     제목
-     * @param content   내용 (미리보기, 200자 제한)
-     * @param category  카테고리
-     * @param imageUrl  이미지 URL (null 가능)
-     * @param createdAt 생성 시각
+     * @param publicId         게시글 Public ID
+     * @param title            제목
+     * @param highlightedTitle 키워드 강조 제목 (HTML 이스케이프 + {@code <em>} 강조, 일치 없으면 null)
+     * @param content          내용 스니펫 (키워드 주변 조각 또는 앞부분, HTML 이스케이프 + {@code <em>} 강조)
+     * @param category         카테고리
+     * @param imageUrl         이미지 URL (null 가능)
+     * @param createdAt        생성 시각
+     * @param likeCount        공감 수 (부분 갱신 주기만큼 지연)
+     * @param commentCount     댓글 수 (부분 갱신 주기만큼 지연)
      */
     public record PostResult(
             UUID publicId,
             String title,
+            String highlightedTitle,
             String content,
             PostCategory category,
             String imageUrl,
-            LocalDateTime createdAt
+            LocalDateTime createdAt,
+            int likeCount,
+            int commentCount
     ) {
-        // 미리보기 길이 상수
-        private static final int CONTENT_PREVIEW_MAX_LENGTH = 200;
+        private static final String HIGHLIGHT_TITLE = "title";
+        private static final String HIGHLIGHT_CONTENT = "content";
 
-        public static PostResult from(PostDocument document) {
+        /**
+         * @param document  _source 필터링된 Document (content 제외)
+         * @param highlight 필드별 하이라이트 조각
+         */
+        public static PostResult from(PostDocument document, Map<String, List<String>> highlight) {
             return new PostResult(
                     UUID.fromString(document.getId()),
                     document.getTitle(),
-                    truncateContent(document.getContent(), CONTENT_PREVIEW_MAX_LENGTH),  // 미리보기
+                    firstFragment(highlight, HIGHLIGHT_TITLE),
+                    firstFragment(highlight, HIGHLIGHT_CONTENT),  // 스니펫
                     PostCategory.valueOf(document.getCategory()),
                     document.getImageUrl(),
-                    document.getCreatedAt()
+                    document.getCreatedAt(),
+                    document.getLikeCount() != null ? document.getLikeCount() : 0,
+                    document.getCommentCount() != null ? document.getCommentCount() : 0
             );
         }
 
-        /**
-         * 내용 길이 제한 (미리보기)
-         */
-        private static String truncateContent(String content, int maxLength) {
-            if (content == null || content.length() <= maxLength) {
-                return content;
-            }
-            return content.substring(0, maxLength) + "...";
+        private static String firstFragment(Map<String, List<String>> highlight, String field) {
+            List<String> fragments = highlight.get(field);
+            return (fragments == null || fragments.isEmpty()) ? null : fragments.get(0);
         }
     }
 
@@ -80,13 +89,9 @@ public class PostSearchDto {
             int currentPage,
             int size
     ) {
-        public static PageResponse of(Page<PostDocument> page) {
-            List<PostResult> posts = page.getContent().stream()
-                    .map(PostResult::from)
-                    .toList();
-
+        public static PageResponse of(Page<PostResult> page) {
             return new PageResponse(
-                    posts,
+                    page.getContent(),
                     page.getTotalPages(),
                     page.getTotalElements(),
                     page.getNumber(),  // 0-based
@@ -94,4 +99,56 @@ public class PostSearchDto {
             );
         }
     }
+
+    /**
+     * @param posts          검색 결과 목록
+     * @param nextCursor     다음 페이지 커서 (마지막 페이지면 null)
+     * @param hasNext        다음 페이지 존재 여부
+     * @param totalHits      전체 결과 수 (withTotal=false면 null)
+     * @param totalHitsExact totalHits가 정확한 값인지 여부 (false면 상한에서 집계 중단된 하한값)
+     */
+    public record CursorResponse(
+            List<PostResult> posts,
+            String nextCursor,
+            boolean hasNext,
+            Long totalHits,
+            boolean totalHitsExact
+    ) {
+        public static CursorResponse of(
+                List<PostResult> posts,
+                String nextCursor,
+                boolean hasNext,
+                Long totalHits,
+                boolean totalHitsExact) {
+            return new CursorResponse(posts, nextCursor, hasNext, totalHits, totalHitsExact);
+        }
+    }
+
+    /**
+     * @param publicId 게시글 Public ID
+     * @param title    제목
+     */
+    public record Suggestion(
+            UUID publicId,
+            String title
+    ) {
+        public static Suggestion from(String id, PostDocument document) {
+            return new Suggestion(UUID.fromString(id), document.getTitle());
+        }
+    }
+
+    /**
+     * @param suggestions 자동완성 결과 (제목 + ID만 포함)
+     */
+    public record SuggestResponse(
+            List<Suggestion> suggestions
+    ) {
+        public static SuggestResponse of(List<Suggestion> suggestions) {
+            return new SuggestResponse(suggestions);
+        }
+
+        public static SuggestResponse empty() {
+            return new SuggestResponse(List.of());
+        }
+    }
 }
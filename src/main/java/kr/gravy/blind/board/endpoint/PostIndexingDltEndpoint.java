@@ -0,0 +1,26 @@
+package kr.gravy.blind.board.endpoint;
+
+import kr.gravy.blind.board.dto.PostReindexDto;
+import kr.gravy.blind.board.service.PostDltReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인덱싱 DLT 재처리 상태 Actuator 엔드포인트 (/actuator/searchdlt)
+ * - 재처리 시작은 관리자 API(POST /api/v1/admin/search/dlt/replay)로만 가능
+ * - 노출 여부는 management.endpoints.web.exposure.include 설정을 따름
+ */
+@Component
+@Endpoint(id = "searchdlt")
+@RequiredArgsConstructor
+public class PostIndexingDltEndpoint {
+
+    private final PostDltReplayService postDltReplayService;
+
+    @ReadOperation
+    public PostReindexDto.DltReplayStatusResponse status() {
+        return postDltReplayService.getStatus();
+    }
+}
@@ -9,8 +9,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -66,10 +64,6 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "parent_comment_id", insertable = false, updatable = false)
     private Comment parentComment;
 
-    @OneToMany(fetch = FetchType.LAZY)
-    @JoinColumn(name = "parent_comment_id", insertable = false, updatable = false)
-    private List<Comment> replies = new ArrayList<>();
-
     /**
      * @param postId       게시글 ID
      * @param userId       작성자 ID
@@ -63,6 +63,13 @@ public class Post extends BaseEntity {
     @Column(name = "is_hot", nullable = false)
     private Boolean isHot;
 
+    /**
+     * 카운터 샤딩 모드 여부
+     * - true: 공감/댓글 수 증감분을 post_counter_shards에 분산 기록, 주기적으로 압축 반영
+     */
+    @Column(name = "counter_sharded", nullable = false)
+    private Boolean counterSharded;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private PostStatus status;
@@ -93,6 +100,7 @@ public class Post extends BaseEntity {
         post.commentCount = 0;
         post.isPinned = false;
         post.isHot = false;
+        post.counterSharded = false;
         post.status = PostStatus.ACTIVE;
         return post;
     }
@@ -1,13 +1,18 @@
 package kr.gravy.blind.board.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import kr.gravy.blind.board.event.PostIndexingMessage;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 @Document(indexName = "posts")
 @Setting(settingPath = "elasticsearch/post-index-settings.json")
@@ -15,6 +20,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostDocument {
 
+    private static final int FINGERPRINT_BYTES = 16;
+
     /**
      * Elasticsearch document ID
      * - MySQL publicId와 동일하게 설정
@@ -45,6 +52,14 @@ public class PostDocument {
     @Field(type = FieldType.Keyword)
     private String category;  // PostCategory.name()
 
+    /**
+     * 공개 범위 (성별 접근 제어 필터용)
+     * - type=Keyword: ALL / MALE / FEMALE (PostCategory.getVisibility())
+     * - 검색 시 filter 컨텍스트의 terms 질의 → 점수 계산 없이 OpenSearch 필터 캐시 재사용
+     */
+    @Field(type = FieldType.Keyword)
+    private String visibility;
+
     /**
      * 생성 시각 (정렬용)
      * 최신순 정렬 (createdAt DESC)
@@ -62,28 +77,105 @@ public class PostDocument {
     @Field(type = FieldType.Keyword, index = false)
     private String imageUrl;
 
+    /**
+     * 공감 수 (관련도순 가중치)
+     * - 카운터 동기화가 주기적으로 Document 전체를 외부 버전으로 다시 색인해 반영
+     */
+    @Field(type = FieldType.Integer)
+    private Integer likeCount;
+
+    /**
+     * 댓글 수 (관련도순 가중치)
+     */
+    @Field(type = FieldType.Integer)
+    private Integer commentCount;
+
+    /**
+     * 내용 지문 (정합성 점검용, 검색 불필요 → index=false)
+     * - MySQL 게시글과 비교해 누락/불일치 탐지 (PostSearchAuditService)
+     */
+    @Field(type = FieldType.Keyword, index = false)
+    private String fingerprint;
+
     /**
      *
      * @param post     Post 엔티티
      * @param imageUrl CDN 이미지 URL (null 가능)
      */
     public static PostDocument from(Post post, String imageUrl) {
+        return from(post, imageUrl, post.getLikeCount(), post.getCommentCount());
+    }
+
+    /**
+     * 샤드 증감분을 합산한 공감/댓글 수로 Document 구성 (카운터 동기화용)
+     *
+     * @param likeCount    현재 공감 수
+     * @param commentCount 현재 댓글 수
+     */
+    public static PostDocument from(Post post, String imageUrl, int likeCount, int commentCount) {
         PostDocument document = new PostDocument();
         document.id = post.getPublicId().toString();
         document.title = post.getTitle();
         document.content = post.getContent();
         document.category = post.getCategory().name();
+        document.visibility = post.getCategory().getVisibility();
         document.createdAt = post.getCreatedAt();
         document.imageUrl = imageUrl;
+        document.likeCount = likeCount;
+        document.commentCount = commentCount;
+        document.fingerprint = fingerprintOf(document.title, document.content, document.category);
         return document;
     }
 
-    private PostDocument(String id, String title, String content, String category, LocalDateTime createdAt, String imageUrl) {
+    /**
+     * 인덱싱 메시지로부터 Document 구성 (MySQL 재조회 없음)
+     *
+     * @param message payload를 포함한 INDEX 메시지
+     */
+    public static PostDocument from(PostIndexingMessage message) {
+        return new PostDocument(
+                message.publicId().toString(),
+                message.title(),
+                message.content(),
+                message.category().name(),
+                message.category().getVisibility(),
+                message.createdAt(),
+                message.imageUrl(),
+                0,  // 신규 게시글, 이후 카운터 변경은 카운터 동기화로 반영
+                0
+        );
+    }
+
+    private PostDocument(String id, String title, String content, String category, String visibility,
+                         LocalDateTime createdAt, String imageUrl, Integer likeCount, Integer commentCount) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.category = category;
+        this.visibility = visibility;
         this.createdAt = createdAt;
         this.imageUrl = imageUrl;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.fingerprint = fingerprintOf(title, content, category);
+    }
+
+    /**
+     * 제목/내용/카테고리 지문 (SHA-256 앞 16바이트 hex)
+     * - 상태는 Document 존재 여부로 판단 (활성 게시글만 색인, 삭제 시 Document 삭제)
+     *
+     * @return 32자 hex 문자열
+     */
+    public static String fingerprintOf(String title, String content, String category) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : new String[]{title, content, category}) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);  // 필드 경계 구분
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, FINGERPRINT_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
     }
 }
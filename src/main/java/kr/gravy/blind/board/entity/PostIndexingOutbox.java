@@ -0,0 +1,56 @@
+package kr.gravy.blind.board.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 인덱싱 Outbox
+ * - 게시글 변경 트랜잭션에서 함께 기록 → 커밋되면 인덱싱 메시지도 유실되지 않음
+ * - PostIndexingOutboxRelay가 미발행 행을 선점(claimedUntil) 후 Kafka로 발행하고 sentAt 기록
+ * - 역직렬화할 수 없는 payload는 failedAt 기록 (재발행 대상에서 제외)
+ */
+@Entity
+@Table(name = "post_indexing_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostIndexingOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_public_id", nullable = false)
+    private UUID postPublicId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;  // PostIndexingMessage JSON
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    /**
+     * @param postPublicId 게시글 Public ID (Kafka 메시지 키)
+     * @param payload      직렬화된 인덱싱 메시지
+     */
+    public static PostIndexingOutbox create(UUID postPublicId, String payload) {
+        PostIndexingOutbox outbox = new PostIndexingOutbox();
+        outbox.postPublicId = postPublicId;
+        outbox.payload = payload;
+        outbox.createdAt = LocalDateTime.now();
+        return outbox;
+    }
+}
@@ -1,16 +1,23 @@
 package kr.gravy.blind.board.event;
 
 import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostStatus;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
+ * 검색 인덱싱 메시지 (자기 완결형)
+ * - 컨슈머는 MySQL 재조회 없이 메시지만으로 PostDocument를 구성
+ * - version: OpenSearch 외부 버전, 같은 key의 메시지가 순서 없이 도착해도 최신 문서를 덮어쓰지 못함
  *
  * @param publicId  게시글 Public ID (Elasticsearch document ID로 사용)
  * @param title     제목 (Nori 분석 대상)
  * @param content   내용 (Nori 분석 대상)
  * @param category  카테고리 (필터링용)
  * @param imageUrl  이미지 URL (CDN URL, null 가능)
+ * @param createdAt 작성 시각 (정렬용)
+ * @param version   인덱스 외부 버전 (PostStatus.indexVersionAt, 구버전 메시지는 상태 단계 1/2 또는 0)
  * @param operation 인덱싱 작업 타입 (INDEX, DELETE)
  */
 public record PostIndexingMessage(
@@ -19,44 +26,75 @@ public record PostIndexingMessage(
         String content,
         PostCategory category,
         String imageUrl,
+        LocalDateTime createdAt,
+        long version,
         IndexOperation operation
 ) {
 
     /**
-     * @param publicId 게시글 Public ID
-     * @param title    제목
-     * @param content  내용
-     * @param category 카테고리
-     * @param imageUrl 이미지 URL (null 가능)
+     * @param publicId  게시글 Public ID
+     * @param title     제목
+     * @param content   내용
+     * @param category  카테고리
+     * @param imageUrl  이미지 URL (null 가능)
+     * @param createdAt 작성 시각
      */
     public static PostIndexingMessage forIndexing(
             UUID publicId,
             String title,
             String content,
             PostCategory category,
-            String imageUrl) {
+            String imageUrl,
+            LocalDateTime createdAt) {
         return new PostIndexingMessage(
                 publicId,
                 title,
                 content,
                 category,
                 imageUrl,
+                createdAt,
+                PostStatus.ACTIVE.indexVersionAt(System.currentTimeMillis()),
                 IndexOperation.INDEX
         );
     }
 
-
-    public static PostIndexingMessage forDeletion(UUID publicId) {
+    /**
+     * @param publicId 게시글 Public ID
+     * @param category 카테고리 (검색 캐시 무효화 등 후속 처리용)
+     */
+    public static PostIndexingMessage forDeletion(UUID publicId, PostCategory category) {
         return new PostIndexingMessage(
                 publicId,
                 null,  // 삭제 시 불필요
                 null,  // 삭제 시 불필요
+                category,
                 null,  // 삭제 시 불필요
                 null,  // 삭제 시 불필요
+                PostStatus.DELETED.indexVersionAt(System.currentTimeMillis()),
                 IndexOperation.DELETE
         );
     }
 
+    /**
+     * Document 구성에 필요한 필드를 모두 담고 있는지 여부
+     * - false: 필드 추가 이전에 발행된 메시지 → 컨슈머가 MySQL에서 조회
+     */
+    public boolean hasPayload() {
+        return title != null && content != null && category != null && createdAt != null;
+    }
+
+    /**
+     * 외부 버전 (구버전 메시지는 작업 타입의 최저 버전 → 같은 게시글의 이후 쓰기가 항상 이김)
+     */
+    public long resolveVersion() {
+        if (version >= PostStatus.ACTIVE.indexVersionAt(0)) {
+            return version;
+        }
+        return operation == IndexOperation.DELETE
+                ? PostStatus.DELETED.indexVersionAt(0)
+                : PostStatus.ACTIVE.indexVersionAt(0);
+    }
+
     public enum IndexOperation {
         INDEX,   // 생성/수정
         DELETE   // 삭제
@@ -1,6 +1,7 @@
 package kr.gravy.blind.board.listener;
 
 import kr.gravy.blind.board.event.PostCreatedEvent;
+import kr.gravy.blind.board.service.PostFeedCacheService;
 import kr.gravy.blind.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class PostCreatedEventListener {
 
     private final NotificationService notificationService;
+    private final PostFeedCacheService postFeedCacheService;
 
     /**
      * @param event 게시글 생성 이벤트
@@ -23,6 +25,9 @@ public class PostCreatedEventListener {
         log.info("게시글 생성 이벤트 수신 - postPublicId: {}, category: {}",
                 event.postPublicId(), event.category());
 
+        // 피드 첫 페이지 캐시 무효화 (알림 수신 후 재조회 시 최신 목록 반환)
+        postFeedCacheService.evict(event.category());
+
         // SSE 브로드캐스트 알림 전송
         notificationService.sendPostCreated(
                 event.postPublicId(),
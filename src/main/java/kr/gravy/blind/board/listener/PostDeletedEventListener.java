@@ -1,6 +1,8 @@
 package kr.gravy.blind.board.listener;
 
 import kr.gravy.blind.board.event.PostDeletedEvent;
+import kr.gravy.blind.board.service.PostDetailCacheService;
+import kr.gravy.blind.board.service.PostFeedCacheService;
 import kr.gravy.blind.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class PostDeletedEventListener {
 
     private final NotificationService notificationService;
+    private final PostFeedCacheService postFeedCacheService;
+    private final PostDetailCacheService postDetailCacheService;
 
     /**
      * @param event 게시글 삭제 이벤트
@@ -26,6 +30,10 @@ public class PostDeletedEventListener {
         log.info("게시글 삭제 이벤트 수신 - postPublicId: {}, category: {}",
                 event.postPublicId(), event.category());
 
+        // 피드 첫 페이지/상세 캐시 무효화 (알림 수신 후 재조회 시 최신 상태 반환)
+        postFeedCacheService.evict(event.category());
+        postDetailCacheService.evict(event.postPublicId());
+
         // SSE 브로드캐스트 알림 전송
         notificationService.sendPostDeleted(
                 event.postPublicId(),
@@ -0,0 +1,38 @@
+package kr.gravy.blind.board.listener;
+
+import kr.gravy.blind.board.service.PostDetailCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis Pub/Sub 게시글 상세 캐시 무효화 리스너
+ * 다른 인스턴스에서 삭제된 게시글을 로컬(Near) 캐시에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCacheInvalidationListener implements MessageListener {
+
+    private final PostDetailCacheService postDetailCacheService;
+
+    /**
+     * @param message Redis 메시지 (게시글 Public ID)
+     * @param pattern Redis 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte @Nullable [] pattern) {
+        String publicId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            postDetailCacheService.evictLocal(UUID.fromString(publicId));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 상세 캐시 무효화 메시지 - message: {}", publicId);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package kr.gravy.blind.board.model;
+
+/**
+ * 게시판 관련 상수
+ */
+public final class BoardConstants {
+
+    private BoardConstants() {
+        // 인스턴스 생성 방지
+    }
+
+    /**
+     * 조회수 플러시 간격 (밀리초)
+     * Redis에 누적된 조회수 증가분을 MySQL에 반영하는 주기
+     */
+    public static final long VIEW_COUNT_FLUSH_INTERVAL_MILLIS = 10_000L;
+
+    /**
+     * 조회수 플러시 락 만료 시간 (밀리초)
+     */
+    public static final long VIEW_COUNT_FLUSH_LOCK_TTL_MILLIS = 60_000L;
+
+    /**
+     * 조회수 일괄 UPDATE 배치 크기
+     */
+    public static final int VIEW_COUNT_FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * 게시글당 카운터 샤드 수
+     */
+    public static final int COUNTER_SHARD_COUNT = 8;
+
+    /**
+     * 카운터 샤딩 전환 임계치
+     * 쓰기 빈도 측정 구간 동안 인스턴스 한 대에서 발생한 카운터 쓰기 횟수
+     */
+    public static final int COUNTER_SHARDING_WRITE_THRESHOLD = 50;
+
+    /**
+     * 카운터 쓰기 빈도 측정 구간 (밀리초)
+     */
+    public static final long COUNTER_WRITE_RATE_WINDOW_MILLIS = 10_000L;
+
+    /**
+     * 카운터 샤드 압축 간격 (밀리초)
+     */
+    public static final long COUNTER_SHARD_COMPACTION_INTERVAL_MILLIS = 30_000L;
+
+    /**
+     * 카운터 샤드 압축 락 만료 시간 (밀리초)
+     */
+    public static final long COUNTER_SHARD_COMPACTION_LOCK_TTL_MILLIS = 60_000L;
+
+    /**
+     * 카운터 샤드 압축 1회 처리 게시글 수 (게시글당 최대 COUNTER_SHARD_COUNT x 카운터 종류 행 잠금)
+     */
+    public static final int COUNTER_SHARD_COMPACTION_BATCH_SIZE = 100;
+
+    /**
+     * 인기글 점수 갱신 간격 (밀리초)
+     */
+    public static final long HOT_SCORE_REFRESH_INTERVAL_MILLIS = 60_000L;
+
+    /**
+     * 인기글 점수 갱신 락 만료 시간 (밀리초)
+     */
+    public static final long HOT_SCORE_REFRESH_LOCK_TTL_MILLIS = 120_000L;
+
+    /**
+     * 인기글 점수 반감기 (밀리초)
+     * 반감기가 지날 때마다 누적 점수가 절반으로 감소
+     */
+    public static final long HOT_SCORE_HALF_LIFE_MILLIS = 6 * 60 * 60 * 1000L;
+
+    /**
+     * 인기글 후보 기간 (시간)
+     * 작성 후 이 시간이 지난 게시글은 점수 집계에서 제외
+     */
+    public static final int HOT_POST_WINDOW_HOURS = 48;
+
+    /**
+     * 인기글 최대 개수
+     */
+    public static final int HOT_POST_LIMIT = 30;
+
+    /**
+     * 인기글 최소 점수
+     */
+    public static final double HOT_POST_MIN_SCORE = 20.0;
+
+    /**
+     * 카테고리 피드 첫 페이지 캐시 만료 시간 (초)
+     * 생성/삭제는 이벤트로 즉시 무효화, 카운터(조회/공감/댓글 수)는 만료 시 갱신
+     */
+    public static final long FEED_CACHE_TTL_SECONDS = 30L;
+
+    /**
+     * 피드 첫 페이지 무효화 표시 유지 시간 (초)
+     * 생성/삭제 커밋 전에 시작된 첫 페이지 조회가 끝나기 전까지 재저장 차단 (표시 동안은 매 요청 MySQL 조회)
+     */
+    public static final long FEED_CACHE_TOMBSTONE_TTL_SECONDS = 5L;
+
+    /**
+     * 캐시 대상 페이지 크기 (클라이언트 기본 요청 크기)
+     */
+    public static final int FEED_CACHE_PAGE_SIZE = 20;
+
+    /**
+     * 게시글 상세 로컬(Near) 캐시 최대 항목 수
+     */
+    public static final long POST_DETAIL_NEAR_CACHE_MAX_SIZE = 10_000L;
+
+    /**
+     * 게시글 상세 로컬(Near) 캐시 만료 시간 (초)
+     * 무효화 메시지 유실 시에도 인스턴스 간 불일치 시간 제한
+     */
+    public static final long POST_DETAIL_NEAR_CACHE_TTL_SECONDS = 60L;
+
+    /**
+     * 게시글 상세 Redis 캐시 만료 시간 (분)
+     */
+    public static final long POST_DETAIL_CACHE_TTL_MINUTES = 30L;
+
+    /**
+     * 게시글 상세 Redis 무효화 표시 유지 시간 (초)
+     * 삭제 커밋 전에 시작된 원본 조회가 끝나기 전까지 재저장 차단
+     */
+    public static final long POST_DETAIL_TOMBSTONE_TTL_SECONDS = 60L;
+
+    /**
+     * 검색 인덱스 Bulk 요청 실패 항목 재시도 횟수
+     */
+    public static final int SEARCH_BULK_MAX_RETRIES = 3;
+
+    /**
+     * 검색 인덱스 Bulk 재시도 기본 대기 시간 (밀리초, 재시도마다 배수 증가)
+     */
+    public static final long SEARCH_BULK_RETRY_BACKOFF_MILLIS = 500L;
+
+    /**
+     * 전체 재인덱싱 시 MySQL에서 한 번에 읽는 게시글 수 (id 기준 Keyset)
+     */
+    public static final int SEARCH_REINDEX_CHUNK_SIZE = 1000;
+
+    /**
+     * 재인덱싱 Bulk 요청당 최대 작업 수
+     */
+    public static final int SEARCH_REINDEX_BULK_MAX_OPERATIONS = 500;
+
+    /**
+     * 재인덱싱 Bulk 요청당 최대 크기 (바이트 추정치, http.max_content_length보다 충분히 작게)
+     */
+    public static final long SEARCH_REINDEX_BULK_MAX_BYTES = 5L * 1024 * 1024;
+
+    /**
+     * 재인덱싱 동시 진행 Bulk 요청 수
+     */
+    public static final int SEARCH_REINDEX_MAX_IN_FLIGHT = 4;
+
+    /**
+     * 재인덱싱 분산 락 만료 시간 (초, 실행 중 TTL / 3마다 하트비트 연장)
+     * - 인스턴스가 죽으면 이 시간 안에 락이 풀려 다른 인스턴스에서 재개 가능
+     */
+    public static final long SEARCH_REINDEX_LOCK_TTL_SECONDS = 60L;
+
+    /**
+     * 검색 읽기 별칭 (검색 API가 조회하는 이름)
+     */
+    public static final String SEARCH_READ_ALIAS = "posts-read";
+
+    /**
+     * 검색 쓰기 별칭 (실시간 인덱싱이 반영되는 이름)
+     */
+    public static final String SEARCH_WRITE_ALIAS = "posts-write";
+
+    /**
+     * 검색 물리 인덱스 접두사 (posts_v{n})
+     */
+    public static final String SEARCH_INDEX_PREFIX = "posts_v";
+
+    /**
+     * 별칭 도입 이전 물리 인덱스 (최초 기동 시 별칭을 연결해 그대로 사용)
+     */
+    public static final String SEARCH_LEGACY_INDEX = "posts";
+
+    /**
+     * 재구축 후 컨슈머가 Kafka 오프셋을 따라잡을 때까지 최대 대기 시간 (분)
+     */
+    public static final long SEARCH_REBUILD_CATCH_UP_TIMEOUT_MINUTES = 10L;
+
+    /**
+     * 컨슈머 오프셋 확인 주기 (밀리초)
+     */
+    public static final long SEARCH_REBUILD_CATCH_UP_POLL_MILLIS = 2_000L;
+
+    /**
+     * 검색 결과 캐시 만료 시간 (초)
+     * 인덱싱 이벤트로 카테고리 세대가 바뀌면 즉시 무효, refresh 지연분은 TTL로 보정
+     */
+    public static final long SEARCH_CACHE_TTL_SECONDS = 30L;
+
+    /**
+     * 검색 결과 캐시 대상 페이지 수 (0 ~ N-1 페이지)
+     */
+    public static final int SEARCH_CACHE_MAX_PAGES = 3;
+
+    /**
+     * 검색 결과 캐시 대상 키워드 최대 길이 (정규화 후)
+     */
+    public static final int SEARCH_CACHE_MAX_KEYWORD_LENGTH = 50;
+
+    /**
+     * 검색 Document 공감/댓글 수 부분 갱신 주기 (밀리초)
+     */
+    public static final long SEARCH_COUNTER_SYNC_INTERVAL_MILLIS = 10_000L;
+
+    /**
+     * 검색 Document 카운터 부분 갱신 락 만료 시간 (밀리초)
+     */
+    public static final long SEARCH_COUNTER_SYNC_LOCK_TTL_MILLIS = 60_000L;
+
+    /**
+     * 검색 Document 카운터 부분 갱신 1회 처리 게시글 수
+     */
+    public static final int SEARCH_COUNTER_SYNC_BATCH_SIZE = 500;
+
+    /**
+     * 검색어 자동완성 로컬 캐시 최대 항목 수
+     */
+    public static final long SEARCH_SUGGEST_CACHE_MAX_SIZE = 10_000L;
+
+    /**
+     * 검색어 자동완성 로컬 캐시 만료 시간 (초)
+     * 타이핑 중 같은 접두어 반복 요청 흡수, 신규 게시글은 만료 후 반영
+     */
+    public static final long SEARCH_SUGGEST_CACHE_TTL_SECONDS = 10L;
+
+    /**
+     * 검색어 자동완성 최소 접두어 길이 (정규화 후)
+     */
+    public static final int SEARCH_SUGGEST_MIN_PREFIX_LENGTH = 1;
+
+    /**
+     * 검색어 자동완성 최대 접두어 길이 (초과 시 앞부분만 사용)
+     */
+    public static final int SEARCH_SUGGEST_MAX_PREFIX_LENGTH = 30;
+
+    /**
+     * 사용자당 검색 Point in Time 생성 허용 수 (SEARCH_PIT_RATE_WINDOW_SECONDS 동안)
+     * - PIT keep_alive(1분)와 같은 창 → 방치된 PIT가 사용자당 이 수의 약 2배를 넘지 않음
+     */
+    public static final int SEARCH_PIT_RATE_LIMIT = 10;
+
+    /**
+     * 검색 Point in Time 생성 제한 창 (초)
+     */
+    public static final long SEARCH_PIT_RATE_WINDOW_SECONDS = 60L;
+
+    /**
+     * 인덱싱 Outbox 릴레이 주기 (밀리초)
+     * 게시글 변경 → 검색 반영 지연의 상한 (이전 AFTER_COMMIT 즉시 발행 대비 최대 이만큼 늦어짐)
+     */
+    public static final long OUTBOX_RELAY_INTERVAL_MILLIS = 500L;
+
+    /**
+     * 인덱싱 Outbox 릴레이 1회 발행 행 수
+     */
+    public static final int OUTBOX_RELAY_BATCH_SIZE = 200;
+
+    /**
+     * 인덱싱 Outbox 배치 발행 완료 대기 시간 (초, 배치 전체 기준, 미완료 행은 다음 주기 재발행)
+     */
+    public static final long OUTBOX_RELAY_SEND_TIMEOUT_SECONDS = 10L;
+
+    /**
+     * 인덱싱 Outbox 선점 유지 시간 (초)
+     * 발행 대기 상한(OUTBOX_RELAY_SEND_TIMEOUT_SECONDS) + send 1회 최대 블록(max.block.ms)보다 길게
+     * → 만료는 릴레이 인스턴스 장애를 의미, 다른 인스턴스가 이어서 발행
+     */
+    public static final long OUTBOX_RELAY_CLAIM_LEASE_SECONDS = 60L;
+
+    /**
+     * 발행 완료 Outbox 행 정리 주기 (밀리초)
+     */
+    public static final long OUTBOX_CLEANUP_INTERVAL_MILLIS = 3_600_000L;
+
+    /**
+     * 발행 완료 Outbox 행 보관 시간 (장애 분석/재발행용)
+     */
+    public static final long OUTBOX_RETENTION_HOURS = 24L;
+
+    /**
+     * 발행 완료 Outbox 행 1회 삭제 수
+     */
+    public static final int OUTBOX_CLEANUP_BATCH_SIZE = 1_000;
+
+    /**
+     * DLT 재처리 poll당 최대 레코드 수 (Bulk 1회 단위)
+     */
+    public static final int DLT_REPLAY_BATCH_SIZE = 500;
+
+    /**
+     * DLT 재처리 초당 최대 레코드 수 (실시간 인덱싱과 OpenSearch 부하 공유)
+     */
+    public static final int DLT_REPLAY_MAX_RECORDS_PER_SECOND = 500;
+
+    /**
+     * DLT 재처리 poll 대기 시간 (밀리초)
+     */
+    public static final long DLT_REPLAY_POLL_TIMEOUT_MILLIS = 1_000L;
+
+    /**
+     * DLT 재처리 분산 락 만료 시간 (분)
+     */
+    public static final long DLT_REPLAY_LOCK_TTL_MINUTES = 60L;
+
+    /**
+     * DLT 재처리 상태에 보관하는 잔여 실패 게시글 ID 최대 수
+     */
+    public static final int DLT_REPLAY_FAILED_ID_SAMPLE_SIZE = 100;
+
+    /**
+     * MySQL/검색 인덱스 정합성 점검 주기 (밀리초, 청크 1개씩 → 초당 점검 게시글 수 상한)
+     */
+    public static final long SEARCH_AUDIT_INTERVAL_MILLIS = 1_000L;
+
+    /**
+     * 정합성 점검 1회 청크 크기 (게시글 Keyset 조회 + mget 1회 단위)
+     */
+    public static final int SEARCH_AUDIT_CHUNK_SIZE = 200;
+
+    /**
+     * 정합성 점검 제외 구간 (초, 최근 변경 게시글은 Outbox/컨슈머 반영 지연으로 오탐 가능)
+     */
+    public static final long SEARCH_AUDIT_GRACE_SECONDS = 60L;
+
+    /**
+     * 정합성 점검 분산 락 만료 시간 (밀리초)
+     */
+    public static final long SEARCH_AUDIT_LOCK_TTL_MILLIS = 30_000L;
+}
@@ -0,0 +1,49 @@
+package kr.gravy.blind.board.model;
+
+import kr.gravy.blind.board.entity.Comment;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.common.utils.CursorUtil;
+
+import java.time.LocalDateTime;
+
+import static kr.gravy.blind.common.exception.Status.INVALID_CURSOR;
+
+/**
+ * 대댓글 "더보기" 커서 (Keyset Pagination)
+ * - idx_comments_parent_id (parent_comment_id, created_at ASC) 정렬 순서와 동일
+ *
+ * @param createdAt 마지막 대댓글 작성 시각
+ * @param id        마지막 대댓글 ID (작성 시각 동률 처리용)
+ */
+public record CommentReplyCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final int CURSOR_PARTS = 2;
+
+    public static CommentReplyCursor from(Comment reply) {
+        return new CommentReplyCursor(reply.getCreatedAt(), reply.getId());
+    }
+
+    /**
+     * @param cursor 인코딩된 커서
+     * @return CommentReplyCursor
+     * @throws BlindException INVALID_CURSOR
+     */
+    public static CommentReplyCursor decode(String cursor) {
+        String[] parts = CursorUtil.decode(cursor, CURSOR_PARTS);
+        try {
+            return new CommentReplyCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1])
+            );
+        } catch (RuntimeException e) {
+            throw new BlindException(INVALID_CURSOR, e);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(createdAt, id);
+    }
+}
@@ -0,0 +1,21 @@
+package kr.gravy.blind.board.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기글 점수 반영 활동 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HotPostActivity {
+
+    VIEW(1.0),
+    COMMENT(3.0),
+    LIKE(5.0);
+
+    /**
+     * 활동 1회당 점수 가중치
+     */
+    private final double weight;
+}
@@ -0,0 +1,19 @@
+package kr.gravy.blind.board.model;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스 Bulk 요청 결과
+ *
+ * @param failedIds     실패한 Document ID (재시도 대상)
+ * @param conflictedIds 더 높은 외부 버전이 이미 반영되어 적용되지 않은 Document ID (재시도 불필요)
+ */
+public record PostBulkResult(
+        List<String> failedIds,
+        List<String> conflictedIds
+) {
+
+    public static PostBulkResult empty() {
+        return new PostBulkResult(List.of(), List.of());
+    }
+}
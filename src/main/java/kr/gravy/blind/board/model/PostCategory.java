@@ -5,6 +5,9 @@ import kr.gravy.blind.user.model.Gender;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static kr.gravy.blind.common.exception.Status.CATEGORY_ACCESS_DENIED;
 
 /**
@@ -20,8 +23,19 @@ public enum PostCategory {
     GENTLEMEN("젠틀맨 라운지"),     // 남성 전용
     LADIES("레이디 라운지");        // 여성 전용
 
+    /**
+     * 검색 Document 공개 범위: 성별 제한 없음
+     */
+    public static final String VISIBILITY_ALL = "ALL";
+
     private final String displayName;
 
+    /**
+     * @return 인기글 선정 대상 여부 (자유수다만 해당)
+     */
+    public boolean isHotEligible() {
+        return this == FREE_TALK;
+    }
 
     /**
      * 사용자가 이 카테고리에 접근 가능한지 검증
@@ -48,4 +62,35 @@ public enum PostCategory {
             throw new BlindException(CATEGORY_ACCESS_DENIED);
         }
     }
+
+    /**
+     * 검색 Document 공개 범위
+     *
+     * @return 성별 전용 카테고리면 해당 성별(Gender.name()), 아니면 VISIBILITY_ALL
+     */
+    public String getVisibility() {
+        return switch (this) {
+            case GENTLEMEN -> Gender.MALE.name();
+            case LADIES -> Gender.FEMALE.name();
+            default -> VISIBILITY_ALL;
+        };
+    }
+
+    /**
+     * @param userGender 사용자 성별
+     * @return 사용자가 조회할 수 있는 공개 범위 값 목록 (VISIBILITY_ALL + 본인 성별)
+     */
+    public static List<String> visibilitiesFor(Gender userGender) {
+        return List.of(VISIBILITY_ALL, userGender.name());
+    }
+
+    /**
+     * @param userGender 사용자 성별
+     * @return 사용자가 접근 가능한 카테고리 목록
+     */
+    public static List<PostCategory> accessibleTo(Gender userGender) {
+        return Arrays.stream(values())
+                .filter(category -> category.canAccess(userGender))
+                .toList();
+    }
 }
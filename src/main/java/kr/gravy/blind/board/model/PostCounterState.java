@@ -0,0 +1,15 @@
+package kr.gravy.blind.board.model;
+
+/**
+ * 게시글 가변 상태 (상세 조회 시 캐시 값 위에 합성)
+ *
+ * @param counts         카운터 값
+ * @param isHot          인기글 여부
+ * @param counterSharded 카운터 샤딩 모드 여부
+ */
+public record PostCounterState(
+        PostCounts counts,
+        boolean isHot,
+        boolean counterSharded
+) {
+}
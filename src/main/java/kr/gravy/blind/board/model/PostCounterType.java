@@ -0,0 +1,20 @@
+package kr.gravy.blind.board.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 샤딩 대상 게시글 카운터 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostCounterType {
+
+    LIKE("like_count"),
+    COMMENT("comment_count");
+
+    /**
+     * anonymous_posts 컬럼명 (압축 시 반영 대상)
+     */
+    private final String columnName;
+}
@@ -0,0 +1,43 @@
+package kr.gravy.blind.board.model;
+
+import kr.gravy.blind.board.entity.Post;
+
+/**
+ * 게시글 카운터 값 (응답 조립용)
+ * - MySQL 값에 아직 반영되지 않은 증가분을 합산해 응답에 사용
+ *
+ * @param viewCount    조회수
+ * @param likeCount    공감 수
+ * @param commentCount 댓글 수
+ */
+public record PostCounts(
+        int viewCount,
+        int likeCount,
+        int commentCount
+) {
+
+    public static PostCounts of(Post post) {
+        return new PostCounts(post.getViewCount(), post.getLikeCount(), post.getCommentCount());
+    }
+
+    /**
+     * @param pendingViews MySQL 미반영 조회수
+     * @return 조회수가 합산된 PostCounts
+     */
+    public PostCounts plusViews(long pendingViews) {
+        return new PostCounts(Math.toIntExact(viewCount + pendingViews), likeCount, commentCount);
+    }
+
+    /**
+     * @param likeDelta    미압축 공감 수 증감분
+     * @param commentDelta 미압축 댓글 수 증감분
+     * @return 샤드 증감분이 합산된 PostCounts
+     */
+    public PostCounts plusShardDeltas(long likeDelta, long commentDelta) {
+        return new PostCounts(
+                viewCount,
+                (int) Math.max(likeCount + likeDelta, 0),
+                (int) Math.max(commentCount + commentDelta, 0)
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package kr.gravy.blind.board.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.user.model.Gender;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 상세 캐시 값 (작성 후 변하지 않는 필드만 포함)
+ * - 카운터/인기글 여부/사용자별 공감 여부는 조회 시점에 별도로 합성
+ * - 삭제 시 이벤트로 무효화
+ *
+ * @param id                게시글 ID
+ * @param publicId          게시글 Public ID
+ * @param userId            작성자 ID
+ * @param category          카테고리
+ * @param authorGender      작성자 성별
+ * @param anonymousNickname 익명 닉네임
+ * @param title             제목
+ * @param content           내용
+ * @param status            게시글 상태
+ * @param isPinned          상단 고정 여부
+ * @param imageUrl          CDN 이미지 URL (null 가능)
+ * @param createdAt         작성 시각
+ * @param updatedAt         수정 시각
+ */
+public record PostDetailSnapshot(
+        Long id,
+        UUID publicId,
+        Long userId,
+        PostCategory category,
+        Gender authorGender,
+        String anonymousNickname,
+        String title,
+        String content,
+        PostStatus status,
+        Boolean isPinned,
+        String imageUrl,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * @param post     Post 엔티티
+     * @param imageUrl CDN 이미지 URL (null 가능)
+     * @return PostDetailSnapshot
+     */
+    public static PostDetailSnapshot of(Post post, String imageUrl) {
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getPublicId(),
+                post.getUserId(),
+                post.getCategory(),
+                post.getAuthorGender(),
+                post.getAnonymousNickname(),
+                post.getTitle(),
+                post.getContent(),
+                post.getStatus(),
+                post.getIsPinned(),
+                imageUrl,
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    @JsonIgnore
+    public boolean isDeleted() {
+        return status == PostStatus.DELETED;
+    }
+}
@@ -0,0 +1,53 @@
+package kr.gravy.blind.board.model;
+
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.common.utils.CursorUtil;
+
+import java.time.LocalDateTime;
+
+import static kr.gravy.blind.common.exception.Status.INVALID_CURSOR;
+
+/**
+ * 카테고리 피드 커서 (Keyset Pagination)
+ * - idx_anonymous_posts_category_pinned (category, is_pinned DESC, created_at DESC) 정렬 순서와 동일
+ * - id: created_at 동률 처리용 (InnoDB 보조 인덱스는 PK를 포함하므로 인덱스 순서 유지)
+ *
+ * @param isPinned  마지막 게시글 고정 여부
+ * @param createdAt 마지막 게시글 생성 시각
+ * @param id        마지막 게시글 ID
+ */
+public record PostFeedCursor(
+        boolean isPinned,
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final int CURSOR_PARTS = 3;
+
+    public static PostFeedCursor from(Post post) {
+        return new PostFeedCursor(post.getIsPinned(), post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * @param cursor 인코딩된 커서
+     * @return PostFeedCursor
+     * @throws BlindException INVALID_CURSOR
+     */
+    public static PostFeedCursor decode(String cursor) {
+        String[] parts = CursorUtil.decode(cursor, CURSOR_PARTS);
+        try {
+            return new PostFeedCursor(
+                    Boolean.parseBoolean(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new BlindException(INVALID_CURSOR, e);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(isPinned, createdAt, id);
+    }
+}
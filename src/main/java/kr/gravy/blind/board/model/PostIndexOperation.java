@@ -0,0 +1,29 @@
+package kr.gravy.blind.board.model;
+
+import kr.gravy.blind.board.entity.PostDocument;
+
+/**
+ * 검색 인덱스 Bulk 작업 단위 (외부 버전 포함)
+ *
+ * @param id       Document ID (publicId)
+ * @param document 인덱싱할 Document (삭제 시 null)
+ * @param version  외부 버전 (같거나 낮은 버전의 작업은 OpenSearch가 거부)
+ */
+public record PostIndexOperation(
+        String id,
+        PostDocument document,
+        long version
+) {
+
+    public static PostIndexOperation index(PostDocument document, long version) {
+        return new PostIndexOperation(document.getId(), document, version);
+    }
+
+    public static PostIndexOperation delete(String id, long version) {
+        return new PostIndexOperation(id, null, version);
+    }
+
+    public boolean isDeletion() {
+        return document == null;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.gravy.blind.board.model;
+
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.common.utils.CursorUtil;
+
+import java.util.List;
+
+import static kr.gravy.blind.common.exception.Status.INVALID_CURSOR;
+
+/**
+ * 게시글 검색 커서 (search_after)
+ * - 정렬 (createdAt DESC, id DESC)의 마지막 결과 sort 값
+ * - pitId: Point in Time 사용 시 같은 스냅샷으로 다음 페이지 조회
+ *
+ * @param createdAt 마지막 결과 createdAt sort 값 (epoch millis)
+ * @param id        마지막 결과 Document ID
+ * @param pitId     Point in Time ID (미사용 시 null)
+ */
+public record PostSearchCursor(
+        long createdAt,
+        String id,
+        String pitId
+) {
+
+    private static final int CURSOR_PARTS = 3;
+
+    /**
+     * @param sortValues 마지막 결과의 sort 값 [createdAt, id]
+     * @param pitId      Point in Time ID (null 가능)
+     */
+    public static PostSearchCursor of(List<String> sortValues, String pitId) {
+        return new PostSearchCursor(Long.parseLong(sortValues.get(0)), sortValues.get(1), pitId);
+    }
+
+    /**
+     * @param cursor 인코딩된 커서
+     * @return PostSearchCursor
+     * @throws BlindException INVALID_CURSOR
+     */
+    public static PostSearchCursor decode(String cursor) {
+        String[] parts = CursorUtil.decode(cursor, CURSOR_PARTS);
+        try {
+            return new PostSearchCursor(
+                    Long.parseLong(parts[0]),
+                    parts[1],
+                    parts[2].isEmpty() ? null : parts[2]
+            );
+        } catch (RuntimeException e) {
+            throw new BlindException(INVALID_CURSOR, e);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(createdAt, id, pitId != null ? pitId : "");
+    }
+
+    /**
+     * @return search_after 값 (createdAt은 매핑의 epoch_millis 포맷으로 해석)
+     */
+    public List<String> toSearchAfter() {
+        return List.of(String.valueOf(createdAt), id);
+    }
+}
@@ -0,0 +1,17 @@
+package kr.gravy.blind.board.model;
+
+/**
+ * 게시글 검색 정렬 방식
+ */
+public enum PostSearchSort {
+
+    /**
+     * 최신순 (createdAt DESC)
+     */
+    LATEST,
+
+    /**
+     * 관련도순 (BM25 × (작성 시각 gauss 감쇠 + 공감/댓글 수 log 가중치))
+     */
+    RELEVANCE
+}
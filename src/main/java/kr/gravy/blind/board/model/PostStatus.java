@@ -7,8 +7,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum PostStatus {
 
-    ACTIVE("활성"),
-    DELETED("삭제됨");
+    ACTIVE("활성", 1L),
+    DELETED("삭제됨", 2L);
+
+    /**
+     * 외부 버전 하위 비트 수 (epoch millis, 2109년까지 표현)
+     */
+    private static final int INDEX_VERSION_TIMESTAMP_BITS = 42;
 
     private final String displayName;
+
+    /**
+     * 검색 인덱스 외부 버전 단계 (OpenSearch version_type=external 상위 비트)
+     * - 게시글은 작성 후 삭제로만 상태가 바뀌므로 상태 전이 순서 = 단계 순서
+     * - 늦게 도착한 INDEX 메시지가 DELETE 이후의 문서를 되살리지 못하게 함
+     */
+    private final long indexVersion;
+
+    /**
+     * 검색 인덱스 외부 버전 = 상태 단계(상위 비트) + Document 구성 시각(하위 42비트)
+     * - 삭제 버전은 어떤 활성 버전보다 항상 큼
+     * - 같은 상태 안에서는 나중에 구성한 Document가 이김 → 카운터 갱신/재인덱싱/복구도 같은 외부 버전 경로로 반영
+     *   (_update 부분 갱신은 내부 버전을 올려 이후 외부 버전 작업과 충돌하므로 사용하지 않음)
+     *
+     * @param epochMillis Document 구성 시각
+     */
+    public long indexVersionAt(long epochMillis) {
+        return (indexVersion << INDEX_VERSION_TIMESTAMP_BITS) | epochMillis;
+    }
 }
@@ -0,0 +1,30 @@
+package kr.gravy.blind.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 댓글 카운터 갱신 (JdbcTemplate)
+ * - 갱신된 값을 UPDATE 결과로 돌려받아 엔티티 재조회 제거
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentCounterJdbcRepository {
+
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE anonymous_comments SET like_count = LAST_INSERT_ID(GREATEST(like_count + ?, 0)) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 수 증감 후 갱신된 값 반환 (단일 UPDATE)
+     *
+     * @param commentId 댓글 ID
+     * @param delta     증감량 (+1 / -1)
+     * @return 갱신된 좋아요 수
+     */
+    public int addLikeCount(Long commentId, int delta) {
+        return PostCounterJdbcRepository.updateAndReturnValue(jdbcTemplate, ADD_LIKE_COUNT_SQL, delta, commentId);
+    }
+}
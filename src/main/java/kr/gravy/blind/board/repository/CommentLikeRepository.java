@@ -2,6 +2,7 @@ package kr.gravy.blind.board.repository;
 
 import kr.gravy.blind.board.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,10 +18,27 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     boolean existsByUserIdAndCommentId(Long userId, Long commentId);
 
     /**
+     * 좋아요 추가 (uq_comment_likes_user_comment 중복 시 무시)
+     *
      * @param userId    사용자 ID
      * @param commentId 댓글 ID
+     * @return 삽입된 행 수 (1: 새로 좋아요, 0: 이미 좋아요 상태)
      */
-    void deleteByUserIdAndCommentId(Long userId, Long commentId);
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO anonymous_comment_likes (user_id, comment_id, created_at, updated_at)
+            VALUES (:userId, :commentId, NOW(), NOW())
+            """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    /**
+     * @param userId    사용자 ID
+     * @param commentId 댓글 ID
+     * @return 삭제된 행 수 (1: 좋아요 취소, 0: 좋아요 없음)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.userId = :userId AND cl.commentId = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
 
     @Query("SELECT cl.commentId FROM CommentLike cl WHERE cl.userId = :userId AND cl.commentId IN :commentIds")
     Set<Long> findLikedCommentIdsByUserIdAndCommentIds(@Param("userId") Long userId, @Param("commentIds") Set<Long> commentIds);
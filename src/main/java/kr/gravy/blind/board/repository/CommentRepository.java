@@ -4,12 +4,13 @@ import kr.gravy.blind.board.entity.Comment;
 import kr.gravy.blind.board.model.CommentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,13 +19,65 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByPublicId(UUID publicId);
 
     /**
+     * 최상위 댓글 페이지 조회
+     * - 대댓글 fetch join 없이 SQL LIMIT/OFFSET으로 페이징 (idx_comments_post_id_parent_null)
+     * - 대댓글은 findReplyPreviewsByParentIds로 별도 일괄 조회
+     *
      * @param postId   게시글 ID
      * @param pageable 페이징 정보
-     * @return 댓글 Page (대댓글 포함)
+     * @return 최상위 댓글 Page
      */
-    @EntityGraph(attributePaths = {"replies"})
-    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentCommentId IS NULL ORDER BY c.createdAt ASC")
-    Page<Comment> findCommentsByPostIdWithReplies(@Param("postId") Long postId, Pageable pageable);
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentCommentId IS NULL ORDER BY c.createdAt ASC, c.id ASC")
+    Page<Comment> findTopLevelCommentsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 부모 댓글별 대댓글 미리보기 일괄 조회
+     * - LATERAL JOIN으로 부모마다 idx_comments_parent_id를 limitPerParent건만 읽음
+     * - 대댓글 수와 무관하게 (부모 수 × limitPerParent)로 비용 고정
+     *
+     * @param parentIds      부모 댓글 ID 목록
+     * @param limitPerParent 부모당 최대 대댓글 수
+     * @return 대댓글 목록 (부모 ID, 작성 시각 순)
+     */
+    @Query(value = "SELECT r.* FROM anonymous_comments p " +
+            "JOIN LATERAL (" +
+            "SELECT c.* FROM anonymous_comments c WHERE c.parent_comment_id = p.id " +
+            "ORDER BY c.created_at ASC, c.id ASC LIMIT :limitPerParent" +
+            ") r ON TRUE " +
+            "WHERE p.id IN (:parentIds) " +
+            "ORDER BY r.parent_comment_id, r.created_at ASC, r.id ASC",
+            nativeQuery = true)
+    List<Comment> findReplyPreviewsByParentIds(
+            @Param("parentIds") Collection<Long> parentIds,
+            @Param("limitPerParent") int limitPerParent
+    );
+
+    /**
+     * 대댓글 첫 페이지 조회 (Keyset Pagination)
+     *
+     * @param parentCommentId 부모 댓글 ID
+     * @param limit           조회 건수 (PageRequest.of(0, size + 1), 정렬 없음)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.parentCommentId = :parentCommentId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesFirstSlice(@Param("parentCommentId") Long parentCommentId, Pageable limit);
+
+    /**
+     * 대댓글 다음 페이지 조회 (Keyset Pagination, idx_comments_parent_id Seek)
+     *
+     * @param parentCommentId 부모 댓글 ID
+     * @param createdAt       커서 대댓글 작성 시각
+     * @param id              커서 대댓글 ID
+     * @param limit           조회 건수 (PageRequest.of(0, size + 1), 정렬 없음)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.parentCommentId = :parentCommentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesSliceAfter(
+            @Param("parentCommentId") Long parentCommentId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable limit
+    );
 
     /**
      * @param postId   게시글 ID
@@ -40,12 +93,4 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("nickname") String nickname,
             @Param("status") CommentStatus status
     );
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
-    void incrementLikeCount(@Param("commentId") Long commentId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Comment c SET c.likeCount = GREATEST(c.likeCount - 1, 0) WHERE c.id = :commentId")
-    void decrementLikeCount(@Param("commentId") Long commentId);
 }
@@ -0,0 +1,281 @@
+package kr.gravy.blind.board.repository;
+
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCounterState;
+import kr.gravy.blind.board.model.PostCounterType;
+import kr.gravy.blind.board.model.PostCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 카운터 갱신 (JdbcTemplate)
+ * - JPQL @Modifying UPDATE는 JDBC 배치가 적용되지 않고 갱신 결과 값을 돌려받을 수 없어 JdbcTemplate 사용
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostCounterJdbcRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL =
+            "UPDATE anonymous_posts SET view_count = view_count + ? WHERE id = ?";
+
+    /**
+     * LAST_INSERT_ID(expr): 갱신된 값을 세션 변수에 기록 → 재조회 없이 generated key로 반환
+     */
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE anonymous_posts SET like_count = LAST_INSERT_ID(GREATEST(like_count + ?, 0)) WHERE id = ?";
+
+    private static final String ADD_COMMENT_COUNT_SQL =
+            "UPDATE anonymous_posts SET comment_count = GREATEST(comment_count + ?, 0) WHERE id = ?";
+
+    private static final String SELECT_COUNTER_STATE_SQL = """
+            SELECT view_count, like_count, comment_count, is_hot, counter_sharded
+            FROM anonymous_posts
+            WHERE id = ?
+            """;
+
+    private static final String ENABLE_COUNTER_SHARDING_SQL =
+            "UPDATE anonymous_posts SET counter_sharded = TRUE WHERE id = ? AND counter_sharded = FALSE";
+
+    private static final String ADD_SHARD_DELTA_SQL = """
+            INSERT INTO post_counter_shards (post_id, counter_type, shard_no, delta, updated_at)
+            VALUES (?, ?, ?, ?, NOW())
+            ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta), updated_at = NOW()
+            """;
+
+    private static final String SUM_SHARD_DELTAS_SQL = """
+            SELECT counter_type, SUM(delta) AS delta
+            FROM post_counter_shards
+            WHERE post_id = ?
+            GROUP BY counter_type
+            """;
+
+    private static final String SELECT_SHARDED_LIKE_COUNT_SQL = """
+            SELECT GREATEST(p.like_count + COALESCE((
+                SELECT SUM(s.delta) FROM post_counter_shards s
+                WHERE s.post_id = p.id AND s.counter_type = 'LIKE'
+            ), 0), 0)
+            FROM anonymous_posts p
+            WHERE p.id = ?
+            """;
+
+    /**
+     * 압축 대상 게시글 (idx_post_counter_shards_pending_post_id, 잠금 없는 일관성 읽기)
+     */
+    private static final String SELECT_PENDING_POST_IDS_SQL = """
+            SELECT DISTINCT post_id
+            FROM post_counter_shards
+            WHERE pending = TRUE
+            ORDER BY post_id
+            LIMIT ?
+            """;
+
+    /**
+     * 게시글 단위로 전체 샤드 잠금 (PK 순서 → 동시 압축 간 잠금 순서 일관)
+     */
+    private static final String SELECT_SHARDS_FOR_UPDATE_SQL = """
+            SELECT post_id, counter_type, shard_no, delta
+            FROM post_counter_shards
+            WHERE post_id IN (%s)
+            ORDER BY post_id, counter_type, shard_no
+            FOR UPDATE
+            """;
+
+    private static final String SUBTRACT_SHARD_DELTA_SQL =
+            "UPDATE post_counter_shards SET delta = delta - ? WHERE post_id = ? AND counter_type = ? AND shard_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증가분 일괄 반영 (단일 트랜잭션)
+     *
+     * @param deltasByPostId postId → 조회수 증가분
+     */
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltasByPostId) {
+        if (deltasByPostId.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                ADD_VIEW_COUNT_SQL,
+                new ArrayList<>(deltasByPostId.entrySet()),
+                BoardConstants.VIEW_COUNT_FLUSH_BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+
+        log.debug("조회수 일괄 반영 완료 - 게시글 수: {}", deltasByPostId.size());
+    }
+
+    /**
+     * 공감 수 증감 후 갱신된 값 반환 (단일 UPDATE)
+     *
+     * @param postId 게시글 ID
+     * @param delta  증감량 (+1 / -1)
+     * @return 갱신된 공감 수
+     */
+    public int addLikeCount(Long postId, int delta) {
+        return updateAndReturnValue(jdbcTemplate, ADD_LIKE_COUNT_SQL, delta, postId);
+    }
+
+    /**
+     * @param postId 게시글 ID
+     * @param delta  증감량 (+1 / -1)
+     */
+    public void addCommentCount(Long postId, int delta) {
+        jdbcTemplate.update(ADD_COMMENT_COUNT_SQL, delta, postId);
+    }
+
+    /**
+     * 가변 컬럼만 PK로 조회 (본문 TEXT 컬럼 제외)
+     *
+     * @param postId 게시글 ID
+     * @return 카운터/인기글 상태 (샤드 증감분 미포함)
+     */
+    public Optional<PostCounterState> findCounterState(Long postId) {
+        return jdbcTemplate.query(SELECT_COUNTER_STATE_SQL, (rs, rowNum) -> new PostCounterState(
+                        new PostCounts(rs.getInt("view_count"), rs.getInt("like_count"), rs.getInt("comment_count")),
+                        rs.getBoolean("is_hot"),
+                        rs.getBoolean("counter_sharded")
+                ), postId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 카운터 샤딩 모드 전환
+     *
+     * @param postId 게시글 ID
+     * @return 전환 여부 (이미 샤딩 모드면 false)
+     */
+    public boolean enableCounterSharding(Long postId) {
+        return jdbcTemplate.update(ENABLE_COUNTER_SHARDING_SQL, postId) == 1;
+    }
+
+    /**
+     * 샤드에 증감분 기록 (샤드 행이 없으면 생성)
+     *
+     * @param postId  게시글 ID
+     * @param type    카운터 종류
+     * @param shardNo 샤드 번호
+     * @param delta   증감량
+     */
+    public void addShardDelta(Long postId, PostCounterType type, int shardNo, int delta) {
+        jdbcTemplate.update(ADD_SHARD_DELTA_SQL, postId, type.name(), shardNo, delta);
+    }
+
+    /**
+     * @param postId 게시글 ID
+     * @return 카운터 종류 → 미압축 증감분 합계
+     */
+    public Map<PostCounterType, Long> sumShardDeltas(Long postId) {
+        Map<PostCounterType, Long> deltas = new EnumMap<>(PostCounterType.class);
+        jdbcTemplate.query(SUM_SHARD_DELTAS_SQL, rs -> {
+            deltas.put(PostCounterType.valueOf(rs.getString("counter_type")), rs.getLong("delta"));
+        }, postId);
+        return deltas;
+    }
+
+    /**
+     * @param postId 게시글 ID
+     * @return 공감 수 (anonymous_posts 값 + 미압축 샤드 증감분)
+     */
+    public int getShardedLikeCount(Long postId) {
+        Integer likeCount = jdbcTemplate.queryForObject(SELECT_SHARDED_LIKE_COUNT_SQL, Integer.class, postId);
+        return likeCount != null ? likeCount : 0;
+    }
+
+    /**
+     * 샤드 증감분을 anonymous_posts에 압축 반영
+     * - 대상 게시글은 잠금 없이 고른 뒤 해당 게시글의 샤드만 FOR UPDATE (쓰기 중인 다른 게시글 샤드는 잠그지 않음)
+     * - 게시글의 모든 샤드를 한 배치에서 합산 → 부분 합이 따로 반영되지 않음
+     * - 읽은 만큼만 샤드에서 차감 (압축 도중 기록된 증감분 보존)
+     *
+     * @param batchSize 1회 처리 게시글 수
+     * @return 처리한 게시글 수
+     */
+    @Transactional
+    public int compactShards(int batchSize) {
+        List<Long> postIds = jdbcTemplate.queryForList(SELECT_PENDING_POST_IDS_SQL, Long.class, batchSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        List<ShardDelta> shardDeltas = jdbcTemplate.query(
+                SELECT_SHARDS_FOR_UPDATE_SQL.formatted(placeholders),
+                (rs, rowNum) -> new ShardDelta(
+                        rs.getLong("post_id"),
+                        PostCounterType.valueOf(rs.getString("counter_type")),
+                        rs.getInt("shard_no"),
+                        rs.getInt("delta")
+                ),
+                postIds.toArray()
+        ).stream().filter(shard -> shard.delta() != 0).toList();
+
+        jdbcTemplate.batchUpdate(SUBTRACT_SHARD_DELTA_SQL, shardDeltas, shardDeltas.size(), (ps, shard) -> {
+            ps.setInt(1, shard.delta());
+            ps.setLong(2, shard.postId());
+            ps.setString(3, shard.type().name());
+            ps.setInt(4, shard.shardNo());
+        });
+
+        Map<PostCounterType, Map<Long, Integer>> deltasByType = shardDeltas.stream()
+                .collect(Collectors.groupingBy(
+                        ShardDelta::type,
+                        Collectors.groupingBy(ShardDelta::postId, Collectors.summingInt(ShardDelta::delta))
+                ));
+
+        // 게시글 전체 샤드 합산이므로 결과는 실제 값 → 음수 보정(GREATEST) 없이 그대로 반영
+        deltasByType.forEach((type, deltasByPostId) -> {
+            String sql = "UPDATE anonymous_posts SET " + type.getColumnName()
+                    + " = " + type.getColumnName() + " + ? WHERE id = ?";
+            jdbcTemplate.batchUpdate(sql, new ArrayList<>(deltasByPostId.entrySet()), deltasByPostId.size(), (ps, entry) -> {
+                ps.setInt(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+        });
+
+        log.debug("카운터 샤드 압축 완료 - 게시글 수: {}, 샤드 행 수: {}", postIds.size(), shardDeltas.size());
+        return postIds.size();
+    }
+
+    /**
+     * UPDATE ... SET col = LAST_INSERT_ID(expr) 실행 후 갱신 값 반환
+     * - MySQL 드라이버는 LAST_INSERT_ID 값이 0이면 generated key를 돌려주지 않으므로 0으로 간주
+     */
+    static int updateAndReturnValue(JdbcTemplate jdbcTemplate, String sql, int delta, Long id) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setInt(1, delta);
+            ps.setLong(2, id);
+            return ps;
+        }, keyHolder);
+
+        Number value = keyHolder.getKey();
+        return value != null ? value.intValue() : 0;
+    }
+
+    private record ShardDelta(Long postId, PostCounterType type, int shardNo, int delta) {
+    }
+}
@@ -2,10 +2,25 @@ package kr.gravy.blind.board.repository;
 
 import kr.gravy.blind.board.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
     Optional<PostImage> findByPostId(Long postId);
+
+    /**
+     * 게시글별 첫 번째 이미지 일괄 조회 (단일 IN 쿼리)
+     * - 목록 조회 시 게시글마다 이미지를 조회하는 N+1 방지
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글당 최대 1개의 이미지
+     */
+    @Query("SELECT pi FROM PostImage pi WHERE pi.id IN (" +
+            "SELECT MIN(i.id) FROM PostImage i WHERE i.postId IN :postIds GROUP BY i.postId)")
+    List<PostImage> findFirstImagesByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,69 @@
+package kr.gravy.blind.board.repository;
+
+import kr.gravy.blind.board.entity.PostIndexingOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostIndexingOutboxRepository extends JpaRepository<PostIndexingOutbox, Long> {
+
+    /**
+     * 선점 가능한 미발행 행 잠금 조회 (FOR UPDATE SKIP LOCKED, READ COMMITTED 트랜잭션에서 호출 → gap 락 없음)
+     * - 발행 불가 행과 다른 릴레이가 선점 중인 행(claimed_until 미만료)은 제외
+     *
+     * @param now   현재 시각 (선점 만료 판단)
+     * @param limit 최대 조회 수
+     * @return id 오름차순 (같은 게시글 메시지는 기록 순서대로 발행)
+     */
+    @Query(value = """
+            SELECT * FROM post_indexing_outbox
+            WHERE sent_at IS NULL AND failed_at IS NULL
+              AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PostIndexingOutbox> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 선점 기록 (만료 전까지 다른 릴레이가 조회하지 않음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostIndexingOutbox o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * 선점 해제 (발행 실패/미완료 행 → 다음 주기에 바로 재발행)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostIndexingOutbox o SET o.claimedUntil = NULL WHERE o.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 발행 완료 처리
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostIndexingOutbox o SET o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발행 불가 처리 (역직렬화 실패 → 재시도해도 같은 결과)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostIndexingOutbox o SET o.failedAt = :failedAt WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("failedAt") LocalDateTime failedAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 행 삭제 (LIMIT 단위로 나눠 삭제 → 긴 락 방지)
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM post_indexing_outbox WHERE sent_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -2,10 +2,49 @@ package kr.gravy.blind.board.repository;
 
 import kr.gravy.blind.board.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     boolean existsByUserIdAndPostId(Long userId, Long postId);
 
-    void deleteByUserIdAndPostId(Long userId, Long postId);
+    /**
+     * 공감 추가 (uq_anonymous_post_likes_user_post 중복 시 무시)
+     *
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 삽입된 행 수 (1: 새로 공감, 0: 이미 공감 상태)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO anonymous_post_likes (user_id, post_id, created_at, updated_at)
+            VALUES (:userId, :postId, NOW(), NOW())
+            """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수 (1: 공감 취소, 0: 공감 없음)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.userId = :userId AND pl.postId = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 목록 공감 여부 일괄 조회 (N+1 방지)
+     *
+     * @param userId    사용자 ID
+     * @param publicIds 게시글 Public ID 목록
+     * @return 사용자가 공감한 게시글 Public ID
+     */
+    @Query("SELECT p.publicId FROM PostLike pl JOIN Post p ON p.id = pl.postId " +
+            "WHERE pl.userId = :userId AND p.publicId IN :publicIds")
+    Set<UUID> findLikedPostPublicIds(@Param("userId") Long userId, @Param("publicIds") Collection<UUID> publicIds);
 }
@@ -3,6 +3,7 @@ package kr.gravy.blind.board.repository;
 import kr.gravy.blind.board.entity.Post;
 import kr.gravy.blind.board.model.PostCategory;
 import kr.gravy.blind.board.model.PostStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -10,7 +11,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,53 +23,91 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findByPublicId(UUID publicId);
 
+    List<Post> findAllByPublicIdIn(Collection<UUID> publicIds);
+
     @EntityGraph(attributePaths = {"images"})
     Optional<Post> findWithImagesByPublicId(UUID publicId);
 
-    @EntityGraph(attributePaths = {"images"})
-    @Query("SELECT p FROM Post p WHERE p.status = :status")
-    List<Post> findAllByStatusWithImages(@Param("status") PostStatus status);
+    /**
+     * 전체 재인덱싱용 Keyset 조회 (PK 순서, OFFSET 없음)
+     * - 이미지는 PostImageService.getThumbnailUrls로 일괄 조회
+     */
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
 
-    @EntityGraph(attributePaths = {"images"})
-    @Query("SELECT p FROM Post p WHERE p.category = :category AND p.status IN :statuses ORDER BY p.isPinned DESC, p.createdAt DESC")
-    Page<Post> findByCategoryAndStatusWithImages(
+    /**
+     * 카테고리별 게시글 ID 페이지 조회
+     * - 컬렉션 fetch join 없이 ID만 SQL LIMIT/OFFSET으로 페이징 (HHH90003004 방지)
+     * - 게시글 본문은 findAllById, 이미지는 PostImageRepository.findFirstImagesByPostIds로 별도 조회
+     * - created_at은 초 단위 → id로 동순위 순서 고정 (페이지 경계 중복/누락 방지)
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.category = :category AND p.status IN :statuses ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC")
+    Page<Long> findIdsByCategoryAndStatus(
             @Param("category") PostCategory category,
             @Param("statuses") List<PostStatus> statuses,
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = {"images"})
-    @Query("SELECT p FROM Post p WHERE p.isHot = true AND p.status IN :statuses ORDER BY p.createdAt DESC")
-    Page<Post> findByIsHotTrueAndStatusWithImages(
+    /**
+     * 카테고리 피드 첫 페이지 (Keyset Pagination)
+     * - COUNT 쿼리 없음 (List 반환)
+     * - idx_anonymous_posts_category_pinned 순서로 조회
+     *
+     * @param limit 조회 건수 (PageRequest.of(0, size + 1), 정렬 없음)
+     */
+    @Query("SELECT p FROM Post p WHERE p.category = :category AND p.status IN :statuses " +
+            "ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC")
+    List<Post> findFeedFirstSlice(
+            @Param("category") PostCategory category,
             @Param("statuses") List<PostStatus> statuses,
-            Pageable pageable
+            Pageable limit
     );
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void incrementViewCount(@Param("postId") Long postId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
-    void incrementCommentCount(@Param("postId") Long postId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.commentCount = GREATEST(p.commentCount - 1, 0) WHERE p.id = :postId")
-    void decrementCommentCount(@Param("postId") Long postId);
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
-    void incrementLikeCount(@Param("postId") Long postId);
+    /**
+     * 카테고리 피드 다음 페이지 (Keyset Pagination)
+     * - OFFSET 없이 커서 위치부터 인덱스 Seek
+     * - 고정글 구간이 끝나면 일반글 구간으로 이어서 조회
+     *
+     * @param isPinned  커서 게시글 고정 여부
+     * @param createdAt 커서 게시글 생성 시각
+     * @param id        커서 게시글 ID
+     * @param limit     조회 건수 (PageRequest.of(0, size + 1), 정렬 없음)
+     */
+    @Query("SELECT p FROM Post p WHERE p.category = :category AND p.status IN :statuses " +
+            "AND ((p.isPinned = :isPinned AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))) " +
+            "OR (:isPinned = true AND p.isPinned = false)) " +
+            "ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC")
+    List<Post> findFeedSliceAfter(
+            @Param("category") PostCategory category,
+            @Param("statuses") List<PostStatus> statuses,
+            @Param("isPinned") boolean isPinned,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable limit
+    );
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.likeCount = GREATEST(p.likeCount - 1, 0) WHERE p.id = :postId")
-    void decrementLikeCount(@Param("postId") Long postId);
+    @Query("SELECT p.id FROM Post p WHERE p.isHot = true AND p.status IN :statuses ORDER BY p.createdAt DESC, p.id DESC")
+    Page<Long> findIdsByIsHotTrueAndStatus(
+            @Param("statuses") List<PostStatus> statuses,
+            Pageable pageable
+    );
 
-    @EntityGraph(attributePaths = {"images"})
-    @Query("SELECT p FROM Post p WHERE p.userId = :userId AND p.status IN :statuses ORDER BY p.createdAt DESC")
-    Page<Post> findByUserIdWithImages(
+    @Query("SELECT p.id FROM Post p WHERE p.userId = :userId AND p.status IN :statuses ORDER BY p.createdAt DESC, p.id DESC")
+    Page<Long> findIdsByUserIdAndStatus(
             @Param("userId") Long userId,
             @Param("statuses") List<PostStatus> statuses,
             Pageable pageable
     );
+
+    @Query("SELECT p.id FROM Post p WHERE p.isHot = true")
+    List<Long> findIdsByIsHotTrue();
+
+    /**
+     * @param postIds 게시글 ID 목록
+     * @param isHot   인기글 여부
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.isHot = :isHot WHERE p.id IN :postIds")
+    int updateIsHot(@Param("postIds") Collection<Long> postIds, @Param("isHot") boolean isHot);
 }
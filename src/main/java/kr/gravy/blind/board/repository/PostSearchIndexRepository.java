@@ -0,0 +1,185 @@
+package kr.gravy.blind.board.repository;
+
+import jakarta.json.stream.JsonParser;
+import kr.gravy.blind.board.exception.PostSearchException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.mapping.Property;
+import org.opensearch.client.opensearch._types.mapping.TypeMapping;
+import org.opensearch.client.opensearch.indices.IndexSettings;
+import org.opensearch.client.opensearch.indices.update_aliases.Action;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 인덱스/별칭 관리 (물리 인덱스 posts_v{n} + 읽기/쓰기 별칭)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostSearchIndexRepository {
+
+    private static final String SETTINGS_PATH = "elasticsearch/post-index-settings.json";
+    private static final String MAPPINGS_PATH = "elasticsearch/post-index-mappings.json";
+
+    private final OpenSearchClient openSearchClient;
+
+    public boolean existsIndex(String indexName) {
+        try {
+            return openSearchClient.indices().exists(e -> e.index(indexName)).value();
+        } catch (IOException e) {
+            throw new PostSearchException("인덱스 존재 확인 실패: index=" + indexName, e);
+        }
+    }
+
+    public boolean existsAlias(String alias) {
+        try {
+            return openSearchClient.indices().existsAlias(e -> e.name(alias)).value();
+        } catch (IOException e) {
+            throw new PostSearchException("별칭 존재 확인 실패: alias=" + alias, e);
+        }
+    }
+
+    /**
+     * 별칭이 가리키는 물리 인덱스 목록 (별칭이 없으면 빈 Set)
+     */
+    public Set<String> findIndicesByAlias(String alias) {
+        if (!existsAlias(alias)) {
+            return Set.of();
+        }
+        try {
+            return openSearchClient.indices().getAlias(g -> g.name(alias)).result().keySet();
+        } catch (IOException e) {
+            throw new PostSearchException("별칭 조회 실패: alias=" + alias, e);
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 물리 인덱스 목록
+     */
+    public Set<String> findIndicesByPrefix(String prefix) {
+        try {
+            return openSearchClient.indices()
+                    .get(g -> g.index(prefix + "*").allowNoIndices(true).ignoreUnavailable(true))
+                    .result()
+                    .keySet();
+        } catch (IOException e) {
+            throw new PostSearchException("인덱스 목록 조회 실패: prefix=" + prefix, e);
+        }
+    }
+
+    /**
+     * 클래스패스 설정/매핑으로 물리 인덱스 생성
+     */
+    public void createIndex(String indexName) {
+        try {
+            JsonpMapper mapper = openSearchClient._transport().jsonpMapper();
+            IndexSettings settings = readJson(SETTINGS_PATH, IndexSettings._DESERIALIZER, mapper);
+            TypeMapping mappings = readJson(MAPPINGS_PATH, TypeMapping._DESERIALIZER, mapper);
+
+            openSearchClient.indices().create(c -> c
+                    .index(indexName)
+                    .settings(settings)
+                    .mappings(mappings)
+            );
+            log.info("검색 인덱스 생성 완료 - index: {}", indexName);
+
+        } catch (IOException e) {
+            throw new PostSearchException("인덱스 생성 실패: index=" + indexName, e);
+        }
+    }
+
+    /**
+     * 기존 인덱스에 클래스패스 매핑 중 없는 최상위 필드만 추가
+     * - 이미 있는 필드는 다시 보내지 않음 (서브필드/분석기 추가·타입 변경은 거부되어 요청 전체가 실패 → 재구축으로만 반영)
+     *
+     * @return 추가한 필드명
+     */
+    public Set<String> putMissingMappings(String indexName) {
+        try {
+            JsonpMapper mapper = openSearchClient._transport().jsonpMapper();
+            TypeMapping mappings = readJson(MAPPINGS_PATH, TypeMapping._DESERIALIZER, mapper);
+            Map<String, Property> existing = findProperties(indexName);
+
+            Map<String, Property> missing = new LinkedHashMap<>();
+            mappings.properties().forEach((field, property) -> {
+                if (!existing.containsKey(field)) {
+                    missing.put(field, property);
+                }
+            });
+            if (missing.isEmpty()) {
+                return Set.of();
+            }
+
+            openSearchClient.indices().putMapping(p -> p
+                    .index(indexName)
+                    .properties(missing)
+            );
+            log.info("검색 인덱스 매핑 추가 완료 - index: {}, 필드: {}", indexName, missing.keySet());
+            return missing.keySet();
+
+        } catch (IOException e) {
+            throw new PostSearchException("인덱스 매핑 반영 실패: index=" + indexName, e);
+        }
+    }
+
+    /**
+     * @return 필드가 keyword 타입으로 매핑되어 있는지 (동적 매핑으로 text가 잡혔거나 필드가 없으면 false)
+     */
+    public boolean isKeywordField(String indexName, String field) {
+        Property property = findProperties(indexName).get(field);
+        return property != null && property._kind() == Property.Kind.Keyword;
+    }
+
+    private Map<String, Property> findProperties(String indexName) {
+        try {
+            return openSearchClient.indices().getMapping(g -> g.index(indexName)).result().values().stream()
+                    .findFirst()
+                    .map(record -> record.mappings().properties())
+                    .orElse(Map.of());
+        } catch (IOException e) {
+            throw new PostSearchException("인덱스 매핑 조회 실패: index=" + indexName, e);
+        }
+    }
+
+    /**
+     * 별칭을 새 인덱스로 원자적 이동 (기존 연결 제거 + 새 연결 추가를 단일 _aliases 요청으로 → 검색 중단 없음)
+     *
+     * @param aliases 이동할 별칭
+     * @param toIndex 새 인덱스
+     */
+    public void moveAliases(List<String> aliases, String toIndex) {
+        List<Action> actions = new ArrayList<>();
+        for (String alias : aliases) {
+            for (String fromIndex : findIndicesByAlias(alias)) {
+                actions.add(Action.of(a -> a.remove(r -> r.index(fromIndex).alias(alias))));
+            }
+            actions.add(Action.of(a -> a.add(ad -> ad.index(toIndex).alias(alias))));
+        }
+
+        try {
+            openSearchClient.indices().updateAliases(u -> u.actions(actions));
+            log.info("검색 별칭 이동 완료 - aliases: {} → {}", aliases, toIndex);
+        } catch (IOException e) {
+            throw new PostSearchException("별칭 이동 실패: " + aliases + " → " + toIndex, e);
+        }
+    }
+
+    private <T> T readJson(String path, JsonpDeserializer<T> deserializer, JsonpMapper mapper) throws IOException {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream();
+             JsonParser parser = mapper.jsonProvider().createParser(inputStream)) {
+            return deserializer.deserialize(parser, mapper);
+        }
+    }
+}
@@ -2,117 +2,175 @@ package kr.gravy.blind.board.repository;
 
 import kr.gravy.blind.board.entity.PostDocument;
 import kr.gravy.blind.board.exception.PostSearchException;
+import kr.gravy.blind.board.model.PostBulkResult;
+import kr.gravy.blind.board.model.PostIndexOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.opensearch.OpenSearchClient;
-import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.opensearch._types.VersionType;
 import org.opensearch.client.opensearch.core.BulkRequest;
 import org.opensearch.client.opensearch.core.BulkResponse;
-import org.opensearch.client.opensearch.core.DeleteRequest;
-import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.MgetResponse;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.opensearch.core.get.GetResult;
+import org.opensearch.client.opensearch.core.mget.MultiGetResponseItem;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class PostSearchRepository {
 
-    private static final String INDEX_NAME = "posts";
+    private static final int VERSION_CONFLICT_STATUS = 409;
+    private static final String FIELD_FINGERPRINT = "fingerprint";
 
     private final OpenSearchClient openSearchClient;
 
     /**
-     * 단일 Document 인덱싱
+     * 인덱싱/삭제 혼합 Bulk 요청 (refresh 강제 없음, 인덱스 refresh_interval에 위임)
+     * - version_type=external: 저장된 버전보다 높은 작업만 반영 (PostStatus.indexVersionAt)
+     * - INDEX 버전 충돌(409): 더 최근에 구성된 Document가 이미 반영됨 → 충돌로 분류 (재시도 불필요)
+     * - DELETE 버전 충돌(409): Document가 실제로 없을 때만 충돌, 남아 있으면 실패로 분류
+     *
+     * @param index      대상 인덱스 (쓰기 별칭 또는 재구축 중인 물리 인덱스)
+     * @param operations 외부 버전이 지정된 인덱싱/삭제 작업
+     * @return 실패/충돌 Document ID
      */
-    public void save(PostDocument document) {
+    public PostBulkResult bulk(String index, List<PostIndexOperation> operations) {
+        if (operations.isEmpty()) {
+            return PostBulkResult.empty();
+        }
+
+        List<BulkOperation> bulkOperations = operations.stream()
+                .map(operation -> toBulkOperation(index, operation))
+                .toList();
+
         try {
-            IndexRequest<PostDocument> request = IndexRequest.of(i -> i
-                    .index(INDEX_NAME)
-                    .id(document.getId())
-                    .document(document)
-                    .refresh(Refresh.True)
-            );
+            BulkResponse response = openSearchClient.bulk(BulkRequest.of(b -> b
+                    .index(index)
+                    .operations(bulkOperations)
+            ));
 
-            openSearchClient.index(request);
-            log.debug("PostDocument 인덱싱 완료 - id: {}", document.getId());
+            PostBulkResult result = response.errors() ? classifyBulkErrors(index, response) : PostBulkResult.empty();
+            log.debug("Bulk 요청 완료 - index: {}, 작업: {}건, 실패: {}건, 충돌: {}건",
+                    index, operations.size(), result.failedIds().size(), result.conflictedIds().size());
+            return result;
 
         } catch (IOException e) {
-            log.error("PostDocument 인덱싱 실패 - id: {}", document.getId(), e);
-            throw new PostSearchException("게시글 인덱싱 실패: id=" + document.getId(), e);
+            log.error("Bulk 요청 실패 - index: {}, 작업: {}건", index, operations.size(), e);
+            throw new PostSearchException("게시글 Bulk 요청 실패", e);
         }
     }
 
     /**
-     * 대량 Document 인덱싱 (Bulk API)
+     * Document 지문 일괄 조회 (mget, _source는 fingerprint만)
+     *
+     * @param index 대상 인덱스
+     * @param ids   Document ID 목록
+     * @return 존재하는 Document ID → 지문 (지문 필드 도입 전 Document는 빈 문자열)
      */
-    public void saveAll(List<PostDocument> documents) {
-        if (documents.isEmpty()) {
-            log.debug("빈 Document 리스트 - Bulk 인덱싱 스킵");
-            return;
+    public Map<String, String> findFingerprints(String index, List<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
         }
 
         try {
-            List<BulkOperation> operations = documents.stream()
-                    .map(doc -> BulkOperation.of(op -> op
-                            .index(idx -> idx
-                                    .index(INDEX_NAME)
-                                    .id(doc.getId())
-                                    .document(doc)
-                            )
-                    ))
-                    .toList();
-
-            BulkRequest bulkRequest = BulkRequest.of(b -> b
-                    .index(INDEX_NAME)
-                    .operations(operations)
-                    .refresh(Refresh.True)
+            MgetResponse<PostDocument> response = openSearchClient.mget(m -> m
+                            .index(index)
+                            .ids(ids)
+                            .sourceIncludes(FIELD_FINGERPRINT),
+                    PostDocument.class
             );
 
-            BulkResponse response = openSearchClient.bulk(bulkRequest);
-
-            if (response.errors()) {
-                logBulkErrors(response);
+            Map<String, String> fingerprints = new HashMap<>();
+            for (MultiGetResponseItem<PostDocument> item : response.docs()) {
+                if (item.isFailure()) {
+                    throw new PostSearchException("Document 지문 조회 실패: id=" + item.failure().id());
+                }
+                GetResult<PostDocument> result = item.result();
+                if (result.found()) {
+                    PostDocument source = result.source();
+                    String fingerprint = source != null ? source.getFingerprint() : null;
+                    fingerprints.put(result.id(), fingerprint != null ? fingerprint : "");
+                }
             }
-
-            log.debug("Bulk 인덱싱 완료 - {}건", documents.size());
+            return fingerprints;
 
         } catch (IOException e) {
-            log.error("Bulk 인덱싱 실패 - size: {}", documents.size(), e);
-            throw new PostSearchException("게시글 대량 인덱싱 실패", e);
+            log.error("Document 지문 조회 실패 - index: {}, 대상: {}건", index, ids.size(), e);
+            throw new PostSearchException("Document 지문 조회 실패", e);
+        }
+    }
+
+    private BulkOperation toBulkOperation(String index, PostIndexOperation operation) {
+        if (operation.isDeletion()) {
+            return BulkOperation.of(op -> op
+                    .delete(del -> del
+                            .index(index)
+                            .id(operation.id())
+                            .version(operation.version())
+                            .versionType(VersionType.External)
+                    )
+            );
         }
+        return BulkOperation.of(op -> op
+                .index(idx -> idx
+                        .index(index)
+                        .id(operation.id())
+                        .document(operation.document())
+                        .version(operation.version())
+                        .versionType(VersionType.External)
+                )
+        );
     }
 
     /**
-     * Document 삭제
+     * 삭제 충돌은 Document 존재 여부로 확인 (남아 있으면 삭제가 반영되지 않은 것 → 실패)
      */
-    public void deleteById(String id) {
-        try {
-            DeleteRequest request = DeleteRequest.of(d -> d
-                    .index(INDEX_NAME)
-                    .id(id)
-                    .refresh(Refresh.True)
-            );
+    private PostBulkResult classifyBulkErrors(String index, BulkResponse response) {
+        List<String> failedIds = new ArrayList<>();
+        List<String> conflictedIds = new ArrayList<>();
+        List<String> deleteConflictIds = new ArrayList<>();
+
+        for (BulkResponseItem item : response.items()) {
+            if (item.error() == null) {
+                continue;
+            }
+            if (!isVersionConflict(item)) {
+                failedIds.add(item.id());
+            } else if (item.operationType() == OperationType.Delete) {
+                deleteConflictIds.add(item.id());
+            } else {
+                conflictedIds.add(item.id());
+            }
+        }
 
-            openSearchClient.delete(request);
-            log.debug("PostDocument 삭제 완료 - id: {}", id);
+        if (!deleteConflictIds.isEmpty()) {
+            Set<String> remainingIds = findFingerprints(index, deleteConflictIds).keySet();
+            for (String id : deleteConflictIds) {
+                (remainingIds.contains(id) ? failedIds : conflictedIds).add(id);
+            }
+        }
 
-        } catch (IOException e) {
-            log.error("PostDocument 삭제 실패 - id: {}", id, e);
-            throw new PostSearchException("게시글 삭제 실패: id=" + id, e);
+        if (!conflictedIds.isEmpty()) {
+            log.debug("Bulk 버전 충돌 (더 높은 버전 반영됨) - 스킵: {}건", conflictedIds.size());
+        }
+        if (!failedIds.isEmpty()) {
+            log.error("Bulk 인덱싱 일부 실패 - 실패 건수: {}, 실패 ID: {}", failedIds.size(), failedIds);
         }
+        return new PostBulkResult(failedIds, conflictedIds);
     }
 
-    private void logBulkErrors(BulkResponse response) {
-        List<String> failedIds = response.items().stream()
-                .filter(item -> item.error() != null)
-                .map(BulkResponseItem::id)
-                .toList();
-
-        log.error("Bulk 인덱싱 일부 실패 - 실패 건수: {}, 실패 ID: {}", failedIds.size(), failedIds);
+    private boolean isVersionConflict(BulkResponseItem item) {
+        return item.status() == VERSION_CONFLICT_STATUS;
     }
 }
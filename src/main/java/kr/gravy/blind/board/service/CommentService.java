@@ -5,13 +5,15 @@ import kr.gravy.blind.board.dto.CreateReplyDto;
 import kr.gravy.blind.board.dto.GetCommentsDto;
 import kr.gravy.blind.board.dto.ToggleCommentLikeDto;
 import kr.gravy.blind.board.entity.Comment;
-import kr.gravy.blind.board.entity.CommentLike;
 import kr.gravy.blind.board.entity.Post;
 import kr.gravy.blind.board.event.CommentAddedEvent;
 import kr.gravy.blind.board.event.CommentCreatedEvent;
 import kr.gravy.blind.board.event.CommentDeletedEvent;
 import kr.gravy.blind.board.event.ReplyCreatedEvent;
+import kr.gravy.blind.board.model.CommentReplyCursor;
+import kr.gravy.blind.board.model.HotPostActivity;
 import kr.gravy.blind.board.model.CommentStatus;
+import kr.gravy.blind.board.repository.CommentCounterJdbcRepository;
 import kr.gravy.blind.board.repository.CommentLikeRepository;
 import kr.gravy.blind.board.repository.CommentRepository;
 import kr.gravy.blind.board.repository.PostRepository;
@@ -22,11 +24,13 @@ import kr.gravy.blind.user.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -43,9 +47,14 @@ import static kr.gravy.blind.common.exception.Status.*;
 public class CommentService {
 
     private static final Pattern MENTION_PATTERN = Pattern.compile("<@([^>]+)>");
+    private static final int REPLY_PREVIEW_SIZE = 10;
+    private static final int MAX_REPLY_PAGE_SIZE = 50;
 
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final CommentCounterJdbcRepository commentCounterJdbcRepository;
+    private final PostCounterService postCounterService;
+    private final HotPostService hotPostService;
     private final PostRepository postRepository;
     private final UserProfileRepository userProfileRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
@@ -80,7 +89,8 @@ public class CommentService {
         );
         commentRepository.save(comment);
 
-        postRepository.incrementCommentCount(post.getId());
+        postCounterService.addCommentCount(post, 1);
+        hotPostService.recordActivity(post, HotPostActivity.COMMENT, 1);
 
         // 게시글 작성자에게 1:1 알림 (자기 자신 제외)
         if (!post.getUserId().equals(user.getId())) {
@@ -143,7 +153,8 @@ public class CommentService {
         );
         commentRepository.save(reply);
 
-        postRepository.incrementCommentCount(post.getId());
+        postCounterService.addCommentCount(post, 1);
+        hotPostService.recordActivity(post, HotPostActivity.COMMENT, 1);
 
         String mentionedNickname = extractMentionedNickname(request.content());
 
@@ -178,6 +189,11 @@ public class CommentService {
     }
 
     /**
+     * 댓글 목록 조회 (2단계 조회)
+     * 1. 최상위 댓글을 SQL에서 페이징
+     * 2. 부모 댓글별 대댓글 미리보기를 REPLY_PREVIEW_SIZE건까지 일괄 조회
+     * - 나머지 대댓글은 nextReplyCursor로 getReplies 호출
+     *
      * @param postPublicId 게시글 publicId
      * @param user         현재 로그인한 사용자
      * @param pageable     페이징 정보
@@ -187,13 +203,28 @@ public class CommentService {
         Post post = postRepository.findByPublicId(postPublicId)
                 .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
 
-        Page<Comment> commentPage = commentRepository.findCommentsByPostIdWithReplies(post.getId(), pageable);
+        Page<Comment> commentPage = commentRepository.findTopLevelCommentsByPostId(post.getId(), pageable);
+
+        List<Long> parentIds = commentPage.getContent().stream()
+                .map(Comment::getId)
+                .toList();
 
-        Set<Long> allCommentIds = commentPage.getContent().stream()
-                .flatMap(comment -> Stream.concat(
-                        Stream.of(comment.getId()),
-                        comment.getReplies().stream().map(Comment::getId)
-                ))
+        // 부모당 REPLY_PREVIEW_SIZE + 1건 조회 → 초과분 존재 시 더보기 커서 발급
+        Map<Long, List<Comment>> repliesByParentId = parentIds.isEmpty()
+                ? Map.of()
+                : commentRepository.findReplyPreviewsByParentIds(parentIds, REPLY_PREVIEW_SIZE + 1).stream()
+                .collect(Collectors.groupingBy(Comment::getParentCommentId));
+
+        Map<Long, List<Comment>> previewsByParentId = repliesByParentId.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().subList(0, Math.min(entry.getValue().size(), REPLY_PREVIEW_SIZE))
+                ));
+
+        Set<Long> allCommentIds = Stream.concat(
+                        parentIds.stream(),
+                        previewsByParentId.values().stream().flatMap(List::stream).map(Comment::getId)
+                )
                 .collect(Collectors.toSet());
 
         Set<Long> likedCommentIds = allCommentIds.isEmpty()
@@ -205,21 +236,68 @@ public class CommentService {
                     boolean isCommentLiked = likedCommentIds.contains(comment.getId());
                     boolean isCommentAuthor = comment.getUserId().equals(user.getId());
 
-                    List<GetCommentsDto.ReplyResponse> replyResponses = comment.getReplies().stream()
-                            .map(reply -> {
-                                boolean isReplyLiked = likedCommentIds.contains(reply.getId());
-                                boolean isReplyAuthor = reply.getUserId().equals(user.getId());
-                                return GetCommentsDto.ReplyResponse.of(reply, isReplyLiked, isReplyAuthor);
-                            })
-                            .toList();
+                    List<Comment> previews = previewsByParentId.getOrDefault(comment.getId(), List.of());
+                    boolean hasMoreReplies = repliesByParentId.getOrDefault(comment.getId(), List.of()).size() > REPLY_PREVIEW_SIZE;
+                    String nextReplyCursor = hasMoreReplies
+                            ? CommentReplyCursor.from(previews.get(previews.size() - 1)).encode()
+                            : null;
+
+                    List<GetCommentsDto.ReplyResponse> replyResponses = toReplyResponses(previews, likedCommentIds, user);
 
-                    return GetCommentsDto.CommentResponse.of(comment, isCommentLiked, isCommentAuthor, replyResponses);
+                    return GetCommentsDto.CommentResponse.of(comment, isCommentLiked, isCommentAuthor, replyResponses, nextReplyCursor);
                 })
                 .toList();
 
         return GetCommentsDto.PageResponse.of(commentPage, commentResponses);
     }
 
+    /**
+     * 대댓글 더보기 (커서 기반)
+     * - idx_comments_parent_id Seek, 부모 댓글의 전체 대댓글 수와 무관한 비용
+     *
+     * @param commentPublicId 부모 댓글 publicId
+     * @param user            현재 로그인한 사용자
+     * @param cursor          이전 응답의 nextReplyCursor/nextCursor (처음부터 조회 시 null)
+     * @param size            페이지 크기
+     * @return GetCommentsDto.ReplySliceResponse
+     */
+    public GetCommentsDto.ReplySliceResponse getReplies(UUID commentPublicId, User user, String cursor, int size) {
+        Comment parentComment = commentRepository.findByPublicId(commentPublicId)
+                .orElseThrow(() -> new BlindException(COMMENT_NOT_FOUND));
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_REPLY_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Comment> replies;
+        if (cursor == null || cursor.isBlank()) {
+            replies = commentRepository.findRepliesFirstSlice(parentComment.getId(), limit);
+        } else {
+            CommentReplyCursor replyCursor = CommentReplyCursor.decode(cursor);
+            replies = commentRepository.findRepliesSliceAfter(
+                    parentComment.getId(),
+                    replyCursor.createdAt(),
+                    replyCursor.id(),
+                    limit
+            );
+        }
+
+        boolean hasNext = replies.size() > pageSize;
+        List<Comment> content = hasNext ? replies.subList(0, pageSize) : replies;
+        String nextCursor = hasNext
+                ? CommentReplyCursor.from(content.get(content.size() - 1)).encode()
+                : null;
+
+        Set<Long> replyIds = content.stream()
+                .map(Comment::getId)
+                .collect(Collectors.toSet());
+
+        Set<Long> likedCommentIds = replyIds.isEmpty()
+                ? Set.of()
+                : commentLikeRepository.findLikedCommentIdsByUserIdAndCommentIds(user.getId(), replyIds);
+
+        return GetCommentsDto.ReplySliceResponse.of(toReplyResponses(content, likedCommentIds, user), nextCursor);
+    }
+
     /**
      * 댓글 삭제 (SoftDelete)
      *
@@ -239,15 +317,16 @@ public class CommentService {
             throw new BlindException(COMMENT_AUTHOR_MISMATCH);
         }
 
-        postRepository.decrementCommentCount(comment.getPostId());
+        Post post = postRepository.findById(comment.getPostId())
+                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
+
+        postCounterService.addCommentCount(post, -1);
+        hotPostService.recordActivity(post, HotPostActivity.COMMENT, -1);
 
         // SoftDelete
         comment.delete();
         commentRepository.save(comment);
 
-        Post post = postRepository.findById(comment.getPostId())
-                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
-
         applicationEventPublisher.publishEvent(
                 CommentDeletedEvent.of(post.getPublicId(), comment.getPublicId())
         );
@@ -255,8 +334,8 @@ public class CommentService {
 
     /**
      * 댓글 좋아요 토글
-     * - 존재하면 삭제 + likeCount 감소
-     * - 없으면 생성 + likeCount 증가
+     * - uq_comment_likes_user_comment 기반: INSERT IGNORE 영향 행 수로 좋아요/취소 판별
+     * - 좋아요 수는 UPDATE 결과(LAST_INSERT_ID)로 반환 (재조회 제거)
      *
      * @param commentPublicId 댓글 publicId
      * @param user            현재 로그인한 사용자
@@ -272,21 +351,29 @@ public class CommentService {
         }
 
         Long commentId = comment.getId();
-        boolean exists = commentLikeRepository.existsByUserIdAndCommentId(user.getId(), commentId);
 
-        if (exists) {
-            commentLikeRepository.deleteByUserIdAndCommentId(user.getId(), commentId);
-            commentRepository.decrementLikeCount(commentId);
-        } else {
-            CommentLike like = CommentLike.create(user.getId(), commentId);
-            commentLikeRepository.save(like);
-            commentRepository.incrementLikeCount(commentId);
+        if (commentLikeRepository.insertIgnore(user.getId(), commentId) == 1) {
+            int likeCount = commentCounterJdbcRepository.addLikeCount(commentId, 1);
+            return ToggleCommentLikeDto.LikeToggleResponse.of(true, likeCount);
         }
 
-        comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new BlindException(COMMENT_NOT_FOUND));
+        if (commentLikeRepository.deleteByUserIdAndCommentId(user.getId(), commentId) == 1) {
+            int likeCount = commentCounterJdbcRepository.addLikeCount(commentId, -1);
+            return ToggleCommentLikeDto.LikeToggleResponse.of(false, likeCount);
+        }
 
-        return ToggleCommentLikeDto.LikeToggleResponse.of(!exists, comment.getLikeCount());
+        // 동시 요청이 먼저 좋아요를 취소한 경우: 카운터는 해당 요청이 이미 반영
+        return ToggleCommentLikeDto.LikeToggleResponse.of(false, comment.getLikeCount());
+    }
+
+    private List<GetCommentsDto.ReplyResponse> toReplyResponses(List<Comment> replies, Set<Long> likedCommentIds, User user) {
+        return replies.stream()
+                .map(reply -> {
+                    boolean isReplyLiked = likedCommentIds.contains(reply.getId());
+                    boolean isReplyAuthor = reply.getUserId().equals(user.getId());
+                    return GetCommentsDto.ReplyResponse.of(reply, isReplyLiked, isReplyAuthor);
+                })
+                .toList();
     }
 
     /**
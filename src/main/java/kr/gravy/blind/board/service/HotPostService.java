@@ -0,0 +1,280 @@
+package kr.gravy.blind.board.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import kr.gravy.blind.board.dto.GetListPostDto;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.HotPostActivity;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostDetailSnapshot;
+import kr.gravy.blind.board.repository.PostRepository;
+import kr.gravy.blind.infrastructure.redis.RedisJsonCache;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.*;
+
+/**
+ * 인기글 점수 엔진
+ * - 조회/공감/댓글 발생 시 가중 활동량을 Redis Sorted Set(delta)에 ZINCRBY (테이블 스캔 없음)
+ * - 주기적으로 score = score × 감쇠 + delta (ZUNIONSTORE WEIGHTS) → 상위 N개를 인기글로 선정
+ * - is_hot 변경분만 일괄 UPDATE, 점수순 목록은 JSON 스냅샷으로 저장해 MySQL 없이 조회
+ * - 대상: 인기글 선정 가능 카테고리(자유수다), 작성 후 HOT_POST_WINDOW_HOURS 이내 게시글
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotPostService {
+
+    private static final long HOT_POST_WINDOW_MILLIS = Duration.ofHours(BoardConstants.HOT_POST_WINDOW_HOURS).toMillis();
+
+    /**
+     * 갱신이 멈추면 스냅샷이 만료되어 MySQL 조회로 대체
+     */
+    private static final Duration SNAPSHOT_TTL = Duration.ofMillis(BoardConstants.HOT_SCORE_REFRESH_INTERVAL_MILLIS * 10);
+
+    private static final TypeReference<List<GetListPostDto.ListResponse>> SNAPSHOT_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final PostImageService postImageService;
+    private final RedisLockService redisLockService;
+    private final RedisJsonCache redisJsonCache;
+
+    /**
+     * 인기글 점수 활동 기록 (실패해도 요청은 계속 진행)
+     *
+     * @param post     게시글
+     * @param activity 활동 종류
+     * @param delta    증감량 (공감 취소/댓글 삭제 시 -1)
+     */
+    public void recordActivity(Post post, HotPostActivity activity, int delta) {
+        recordActivity(post.getId(), post.getCategory(), post.getCreatedAt(), post.isDeleted(), activity, delta);
+    }
+
+    /**
+     * 인기글 점수 활동 기록 (상세 캐시 값 기준)
+     *
+     * @param post     게시글 상세 캐시 값
+     * @param activity 활동 종류
+     * @param delta    증감량
+     */
+    public void recordActivity(PostDetailSnapshot post, HotPostActivity activity, int delta) {
+        recordActivity(post.id(), post.category(), post.createdAt(), post.isDeleted(), activity, delta);
+    }
+
+    private void recordActivity(Long postId, PostCategory category, LocalDateTime createdAt, boolean deleted,
+                                HotPostActivity activity, int delta) {
+        if (!category.isHotEligible() || deleted) {
+            return;
+        }
+
+        long createdAtMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (createdAtMillis < System.currentTimeMillis() - HOT_POST_WINDOW_MILLIS) {
+            return;
+        }
+
+        String member = postId.toString();
+        double score = activity.getWeight() * delta;
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.zIncrBy(HOT_POST_DELTA_KEY, score, member);
+                stringConnection.zAdd(HOT_POST_CREATED_AT_KEY, createdAtMillis, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("인기글 활동 기록 실패 - postId: {}, activity: {}", postId, activity, e);
+        }
+    }
+
+    /**
+     * @return 점수순 인기글 스냅샷 (없거나 조회 실패 시 empty)
+     */
+    public Optional<List<GetListPostDto.ListResponse>> getHotPostSnapshot() {
+        return redisJsonCache.get(HOT_POST_SNAPSHOT_KEY, SNAPSHOT_TYPE);
+    }
+
+    /**
+     * 인기글 점수 갱신 (분산 락으로 단일 인스턴스만 실행)
+     */
+    @Scheduled(fixedDelay = BoardConstants.HOT_SCORE_REFRESH_INTERVAL_MILLIS)
+    public void refreshHotPosts() {
+        try {
+            redisLockService.executeWithLock(
+                    HOT_POST_REFRESH_LOCK_KEY,
+                    Duration.ofMillis(BoardConstants.HOT_SCORE_REFRESH_LOCK_TTL_MILLIS),
+                    this::refresh
+            );
+        } catch (Exception e) {
+            log.error("인기글 점수 갱신 실패", e);
+        }
+    }
+
+    private void refresh() {
+        long now = System.currentTimeMillis();
+
+        applyDecayAndDeltas(now);
+        removeExpiredCandidates(now);
+
+        List<Long> hotPostIds = selectHotPostIds();
+        updateHotFlags(hotPostIds);
+        saveSnapshot(hotPostIds);
+
+        log.debug("인기글 갱신 완료 - 인기글 수: {}", hotPostIds.size());
+    }
+
+    /**
+     * score = score × 0.5^(경과 시간 / 반감기) + delta
+     * - delta 키는 RENAME 후 반영 (반영 중 발생한 활동은 새 delta 키에 누적)
+     * - 이전 갱신이 중단되어 남은 스냅샷이 있으면 그것을 먼저 반영
+     */
+    private void applyDecayAndDeltas(long now) {
+        String decayedAt = stringRedisTemplate.opsForValue().get(HOT_POST_DECAYED_AT_KEY);
+        double decay = decayedAt == null
+                ? 1.0
+                : Math.pow(0.5, (double) (now - Long.parseLong(decayedAt)) / BoardConstants.HOT_SCORE_HALF_LIFE_MILLIS);
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(HOT_POST_DELTA_PROCESSING_KEY))
+                && Boolean.TRUE.equals(stringRedisTemplate.hasKey(HOT_POST_DELTA_KEY))) {
+            stringRedisTemplate.rename(HOT_POST_DELTA_KEY, HOT_POST_DELTA_PROCESSING_KEY);
+        }
+
+        ZSetOperations<String, String> zSetOps = stringRedisTemplate.opsForZSet();
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(HOT_POST_DELTA_PROCESSING_KEY))) {
+            zSetOps.unionAndStore(HOT_POST_SCORE_KEY, List.of(HOT_POST_DELTA_PROCESSING_KEY), HOT_POST_SCORE_KEY,
+                    Aggregate.SUM, Weights.of(decay, 1));
+            stringRedisTemplate.delete(HOT_POST_DELTA_PROCESSING_KEY);
+        } else {
+            zSetOps.unionAndStore(HOT_POST_SCORE_KEY, List.of(), HOT_POST_SCORE_KEY,
+                    Aggregate.SUM, Weights.of(decay));
+        }
+
+        stringRedisTemplate.opsForValue().set(HOT_POST_DECAYED_AT_KEY, String.valueOf(now));
+    }
+
+    /**
+     * 후보 기간이 지난 게시글 점수 제거
+     */
+    private void removeExpiredCandidates(long now) {
+        Set<String> expired = stringRedisTemplate.opsForZSet()
+                .rangeByScore(HOT_POST_CREATED_AT_KEY, 0, now - HOT_POST_WINDOW_MILLIS);
+
+        if (expired != null && !expired.isEmpty()) {
+            removeCandidates(expired);
+        }
+    }
+
+    /**
+     * 최소 점수 이상 상위 게시글 선정 (삭제된 게시글은 후보에서 제거)
+     *
+     * @return 점수순 인기글 ID 목록
+     */
+    private List<Long> selectHotPostIds() {
+        Set<String> ranked = stringRedisTemplate.opsForZSet().reverseRangeByScore(
+                HOT_POST_SCORE_KEY,
+                BoardConstants.HOT_POST_MIN_SCORE,
+                Double.POSITIVE_INFINITY,
+                0,
+                BoardConstants.HOT_POST_LIMIT * 2L
+        );
+
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> rankedIds = ranked.stream().map(Long::valueOf).toList();
+        Map<Long, Post> postById = postRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Long> hotPostIds = new ArrayList<>();
+        Set<String> removed = new HashSet<>();
+        for (Long postId : rankedIds) {
+            Post post = postById.get(postId);
+            if (post == null || post.isDeleted()) {
+                removed.add(postId.toString());
+                continue;
+            }
+            if (hotPostIds.size() < BoardConstants.HOT_POST_LIMIT) {
+                hotPostIds.add(postId);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            removeCandidates(removed);
+        }
+        return hotPostIds;
+    }
+
+    /**
+     * is_hot 변경분만 일괄 UPDATE
+     */
+    private void updateHotFlags(List<Long> hotPostIds) {
+        Set<Long> newHotIds = new LinkedHashSet<>(hotPostIds);
+        Set<Long> currentHotIds = new HashSet<>(postRepository.findIdsByIsHotTrue());
+
+        Set<Long> toHot = newHotIds.stream().filter(id -> !currentHotIds.contains(id)).collect(Collectors.toSet());
+        Set<Long> toCold = currentHotIds.stream().filter(id -> !newHotIds.contains(id)).collect(Collectors.toSet());
+
+        if (!toHot.isEmpty()) {
+            postRepository.updateIsHot(toHot, true);
+        }
+        if (!toCold.isEmpty()) {
+            postRepository.updateIsHot(toCold, false);
+        }
+    }
+
+    /**
+     * 점수순 인기글 목록 JSON 스냅샷 저장 (is_hot 반영 후 조회)
+     */
+    private void saveSnapshot(List<Long> hotPostIds) {
+        Map<Long, Post> postById = hotPostIds.isEmpty()
+                ? Map.of()
+                : postRepository.findAllById(hotPostIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Post> posts = hotPostIds.stream()
+                .map(postById::get)
+                .filter(post -> post != null && !post.isDeleted())
+                .toList();
+        List<String> imageUrls = postImageService.getThumbnailUrls(posts);
+
+        List<GetListPostDto.ListResponse> snapshot = IntStream.range(0, posts.size())
+                .mapToObj(index -> GetListPostDto.ListResponse.of(posts.get(index), imageUrls.get(index)))
+                .toList();
+
+        redisJsonCache.put(HOT_POST_SNAPSHOT_KEY, snapshot, SNAPSHOT_TTL);
+    }
+
+    private void removeCandidates(Set<String> postIds) {
+        Object[] members = postIds.toArray();
+        stringRedisTemplate.opsForZSet().remove(HOT_POST_SCORE_KEY, members);
+        stringRedisTemplate.opsForZSet().remove(HOT_POST_CREATED_AT_KEY, members);
+    }
+}
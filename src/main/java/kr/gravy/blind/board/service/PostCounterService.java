@@ -0,0 +1,174 @@
+package kr.gravy.blind.board.service;
+
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCounterState;
+import kr.gravy.blind.board.model.PostCounterType;
+import kr.gravy.blind.board.model.PostCounts;
+import kr.gravy.blind.board.repository.PostCounterJdbcRepository;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kr.gravy.blind.common.exception.Status.POST_NOT_FOUND;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.POST_COUNTER_COMPACTION_LOCK_KEY;
+
+/**
+ * 게시글 공감/댓글 수 카운터
+ * - 기본: anonymous_posts 행 직접 UPDATE
+ * - 쓰기 빈도가 임계치를 넘은 게시글은 샤딩 모드로 전환 → post_counter_shards의 무작위 샤드에 기록 (행 락 경합 분산)
+ * - 샤딩 모드 조회: anonymous_posts 값 + 샤드 합계, 샤드 증감분은 주기적으로 anonymous_posts에 압축 반영
+ * - 목록 조회는 anonymous_posts 값을 그대로 사용 (샤딩 게시글은 압축 주기만큼 지연)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private final PostCounterJdbcRepository postCounterJdbcRepository;
+    private final RedisLockService redisLockService;
+    private final PostSearchCounterSyncService postSearchCounterSyncService;
+
+    /**
+     * 현재 측정 구간의 게시글별 카운터 쓰기 횟수 (인스턴스 로컬)
+     */
+    private final Map<Long, AtomicInteger> writesInWindow = new ConcurrentHashMap<>();
+
+    /**
+     * 공감 수 증감
+     *
+     * @param post  게시글
+     * @param delta 증감량 (+1 / -1)
+     * @return 갱신된 공감 수
+     */
+    @Transactional
+    public int addLikeCount(Post post, int delta) {
+        Long postId = post.getId();
+        recordWrite(post);
+        postSearchCounterSyncService.markDirty(post);
+
+        if (!post.getCounterSharded()) {
+            return postCounterJdbcRepository.addLikeCount(postId, delta);
+        }
+
+        postCounterJdbcRepository.addShardDelta(postId, PostCounterType.LIKE, randomShardNo(), delta);
+        return postCounterJdbcRepository.getShardedLikeCount(postId);
+    }
+
+    /**
+     * 댓글 수 증감
+     *
+     * @param post  게시글
+     * @param delta 증감량 (+1 / -1)
+     */
+    @Transactional
+    public void addCommentCount(Post post, int delta) {
+        Long postId = post.getId();
+        recordWrite(post);
+        postSearchCounterSyncService.markDirty(post);
+
+        if (!post.getCounterSharded()) {
+            postCounterJdbcRepository.addCommentCount(postId, delta);
+            return;
+        }
+
+        postCounterJdbcRepository.addShardDelta(postId, PostCounterType.COMMENT, randomShardNo(), delta);
+    }
+
+    /**
+     * @param post 게시글
+     * @return 카운터 값 (샤딩 모드면 미압축 샤드 증감분 합산)
+     */
+    public PostCounts getCounts(Post post) {
+        PostCounts counts = PostCounts.of(post);
+        if (!post.getCounterSharded()) {
+            return counts;
+        }
+
+        Map<PostCounterType, Long> shardDeltas = postCounterJdbcRepository.sumShardDeltas(post.getId());
+        return counts.plusShardDeltas(
+                shardDeltas.getOrDefault(PostCounterType.LIKE, 0L),
+                shardDeltas.getOrDefault(PostCounterType.COMMENT, 0L)
+        );
+    }
+
+    /**
+     * 상세 조회용 가변 상태 조회 (PK 조회 1회, 샤딩 모드면 샤드 합계 1회 추가)
+     *
+     * @param postId 게시글 ID
+     * @return 카운터/인기글 상태
+     */
+    public PostCounterState getCounterState(Long postId) {
+        PostCounterState state = postCounterJdbcRepository.findCounterState(postId)
+                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
+        if (!state.counterSharded()) {
+            return state;
+        }
+
+        Map<PostCounterType, Long> shardDeltas = postCounterJdbcRepository.sumShardDeltas(postId);
+        PostCounts counts = state.counts().plusShardDeltas(
+                shardDeltas.getOrDefault(PostCounterType.LIKE, 0L),
+                shardDeltas.getOrDefault(PostCounterType.COMMENT, 0L)
+        );
+        return new PostCounterState(counts, state.isHot(), true);
+    }
+
+    /**
+     * 쓰기 빈도 측정 구간 초기화
+     */
+    @Scheduled(fixedRate = BoardConstants.COUNTER_WRITE_RATE_WINDOW_MILLIS)
+    public void resetWriteRateWindow() {
+        writesInWindow.clear();
+    }
+
+    /**
+     * 샤드 증감분 압축 (분산 락으로 단일 인스턴스만 실행)
+     */
+    @Scheduled(fixedDelay = BoardConstants.COUNTER_SHARD_COMPACTION_INTERVAL_MILLIS)
+    public void compactShards() {
+        try {
+            redisLockService.executeWithLock(
+                    POST_COUNTER_COMPACTION_LOCK_KEY,
+                    Duration.ofMillis(BoardConstants.COUNTER_SHARD_COMPACTION_LOCK_TTL_MILLIS),
+                    () -> {
+                        int compacted;
+                        do {
+                            compacted = postCounterJdbcRepository.compactShards(BoardConstants.COUNTER_SHARD_COMPACTION_BATCH_SIZE);
+                        } while (compacted == BoardConstants.COUNTER_SHARD_COMPACTION_BATCH_SIZE);
+                    }
+            );
+        } catch (Exception e) {
+            log.error("카운터 샤드 압축 실패 - 미반영분은 다음 주기에 재처리", e);
+        }
+    }
+
+    /**
+     * 쓰기 횟수 기록, 임계치 도달 시 샤딩 모드 전환
+     * - 전환 이후 쓰기부터 샤드에 기록 (현재 요청은 기존 경로 유지)
+     */
+    private void recordWrite(Post post) {
+        if (post.getCounterSharded()) {
+            return;
+        }
+
+        int writes = writesInWindow.computeIfAbsent(post.getId(), id -> new AtomicInteger()).incrementAndGet();
+        if (writes == BoardConstants.COUNTER_SHARDING_WRITE_THRESHOLD
+                && postCounterJdbcRepository.enableCounterSharding(post.getId())) {
+            log.info("카운터 샤딩 모드 전환 - postId: {}", post.getId());
+        }
+    }
+
+    private int randomShardNo() {
+        return ThreadLocalRandom.current().nextInt(BoardConstants.COUNTER_SHARD_COUNT);
+    }
+}
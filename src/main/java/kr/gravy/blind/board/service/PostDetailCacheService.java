@@ -0,0 +1,120 @@
+package kr.gravy.blind.board.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostDetailSnapshot;
+import kr.gravy.blind.board.repository.PostImageRepository;
+import kr.gravy.blind.board.repository.PostRepository;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.common.type.ImageSize;
+import kr.gravy.blind.infrastructure.redis.RedisJsonCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static kr.gravy.blind.common.exception.Status.POST_NOT_FOUND;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.POST_DETAIL_INVALIDATION_TOPIC;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.POST_DETAIL_KEY_PREFIX;
+
+/**
+ * 게시글 상세 2단 캐시 (불변 필드)
+ * - 1단: 인스턴스 로컬 Caffeine (Near Cache)
+ * - 2단: Redis (인스턴스 간 공유)
+ * - 미스 시 MySQL(게시글 + 이미지) 조회 후 양쪽에 저장
+ * - 삭제 시 Redis 값을 무효화 표시로 교체 + Pub/Sub으로 모든 인스턴스의 로컬 캐시 무효화
+ * - Redis 저장은 SET NX → 삭제 커밋 전에 읽은 활성 상태 값이 무효화 이후 늦게 저장되지 않음
+ */
+@Slf4j
+@Service
+public class PostDetailCacheService {
+
+    private static final Duration REDIS_TTL = Duration.ofMinutes(BoardConstants.POST_DETAIL_CACHE_TTL_MINUTES);
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(BoardConstants.POST_DETAIL_TOMBSTONE_TTL_SECONDS);
+
+    private static final TypeReference<PostDetailSnapshot> SNAPSHOT_TYPE = new TypeReference<>() {
+    };
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostImageService postImageService;
+    private final RedisJsonCache redisJsonCache;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Cache<UUID, PostDetailSnapshot> nearCache;
+
+    public PostDetailCacheService(
+            PostRepository postRepository,
+            PostImageRepository postImageRepository,
+            PostImageService postImageService,
+            RedisJsonCache redisJsonCache,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.postImageRepository = postImageRepository;
+        this.postImageService = postImageService;
+        this.redisJsonCache = redisJsonCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(BoardConstants.POST_DETAIL_NEAR_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(BoardConstants.POST_DETAIL_NEAR_CACHE_TTL_SECONDS))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "postDetailNearCache");
+    }
+
+    /**
+     * @param publicId 게시글 Public ID
+     * @return 게시글 상세 캐시 값
+     * @throws BlindException POST_NOT_FOUND
+     */
+    public PostDetailSnapshot get(UUID publicId) {
+        return nearCache.get(publicId, key ->
+                redisJsonCache.getOrLoadIfAbsent(POST_DETAIL_KEY_PREFIX + key, SNAPSHOT_TYPE, REDIS_TTL, () -> load(key)));
+    }
+
+    /**
+     * 전체 무효화 (삭제 트랜잭션 커밋 후 호출)
+     *
+     * @param publicId 게시글 Public ID
+     */
+    public void evict(UUID publicId) {
+        redisJsonCache.invalidate(POST_DETAIL_KEY_PREFIX + publicId, TOMBSTONE_TTL);
+        nearCache.invalidate(publicId);
+
+        try {
+            stringRedisTemplate.convertAndSend(POST_DETAIL_INVALIDATION_TOPIC, publicId.toString());
+        } catch (Exception e) {
+            log.warn("상세 캐시 무효화 메시지 발행 실패 (로컬 캐시는 TTL 만료로 정리) - publicId: {}", publicId, e);
+        }
+    }
+
+    /**
+     * 로컬 캐시만 무효화 (다른 인스턴스의 무효화 메시지 수신 시)
+     *
+     * @param publicId 게시글 Public ID
+     */
+    public void evictLocal(UUID publicId) {
+        nearCache.invalidate(publicId);
+    }
+
+    private PostDetailSnapshot load(UUID publicId) {
+        Post post = postRepository.findByPublicId(publicId)
+                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
+
+        String imageUrl = postImageRepository.findByPostId(post.getId())
+                .map(image -> postImageService.getCdnImageUrl(image.getS3Key(), ImageSize.MEDIUM))
+                .orElse(null);
+
+        return PostDetailSnapshot.of(post, imageUrl);
+    }
+}
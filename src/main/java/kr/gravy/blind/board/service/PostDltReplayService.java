@@ -0,0 +1,240 @@
+package kr.gravy.blind.board.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.gravy.blind.board.dto.PostReindexDto;
+import kr.gravy.blind.board.event.PostIndexingMessage;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.configuration.properties.KafkaProperties;
+import kr.gravy.blind.infrastructure.kafka.KafkaConstants;
+import kr.gravy.blind.infrastructure.redis.RedisConstants;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 인덱싱 DLT 재처리 (관리자 트리거)
+ * - 시작 시점 DLT 끝 오프셋까지만 poll 단위로 읽음 (재처리 중 새로 쌓이는 레코드는 다음 실행)
+ * - poll 단위로 publicId별 최신 버전만 남겨 실시간 인덱싱과 같은 Bulk 경로로 반영
+ * - 외부 버전으로 요청하므로 오래된 DLT 레코드가 이미 반영된 최신 문서를 덮어쓰지 않음
+ * - 초당 레코드 수 상한으로 속도 제한, 배치마다 재처리 그룹 오프셋 커밋 → 중단 후 이어서 실행
+ * - 재반영 후에도 실패한 게시글은 상태로만 보고 (DLT로 되돌리지 않음, 정합성 점검/재인덱싱으로 복구)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDltReplayService {
+
+    private static final String CLIENT_ID_PREFIX = "post-indexing-dlt-replay";
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaProperties kafkaProperties;
+    private final PostIndexingService postIndexingService;
+    private final RedisLockService redisLockService;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong readCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+    private final AtomicLong unparseableCount = new AtomicLong();
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong remainingCount = new AtomicLong();
+    private final Set<String> failedIds = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    /**
+     * DLT 재처리 비동기 시작
+     *
+     * @return 시작 여부 (이 인스턴스에서 이미 실행 중이면 false)
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("DLT 재처리 이미 실행 중 - 요청 무시");
+            return false;
+        }
+
+        readCount.set(0);
+        duplicateCount.set(0);
+        unparseableCount.set(0);
+        replayedCount.set(0);
+        failedCount.set(0);
+        remainingCount.set(0);
+        failedIds.clear();
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        failureMessage = null;
+
+        jobExecutor.execute(() -> {
+            try {
+                boolean executed = redisLockService.executeWithLock(
+                        RedisConstants.SEARCH_DLT_REPLAY_LOCK_KEY,
+                        Duration.ofMinutes(BoardConstants.DLT_REPLAY_LOCK_TTL_MINUTES),
+                        this::replay
+                );
+                if (!executed) {
+                    failureMessage = "다른 인스턴스에서 DLT 재처리 실행 중";
+                    log.warn("DLT 재처리 락 획득 실패 - 다른 인스턴스에서 실행 중");
+                }
+            } catch (Exception e) {
+                failureMessage = e.getMessage();
+                log.error("DLT 재처리 실패 - 읽음: {}건, 재반영: {}건", readCount.get(), replayedCount.get(), e);
+            } finally {
+                finishedAt = LocalDateTime.now();
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public PostReindexDto.DltReplayStatusResponse getStatus() {
+        return new PostReindexDto.DltReplayStatusResponse(
+                running.get(),
+                readCount.get(),
+                duplicateCount.get(),
+                unparseableCount.get(),
+                replayedCount.get(),
+                failedCount.get(),
+                List.copyOf(failedIds),
+                remainingCount.get(),
+                startedAt,
+                finishedAt,
+                failureMessage
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void replay() {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, BoardConstants.DLT_REPLAY_BATCH_SIZE);
+
+        String groupId = kafkaProperties.consumer().groupId() + KafkaConstants.DLT_REPLAY_GROUP_SUFFIX;
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer(groupId, CLIENT_ID_PREFIX, null, overrides)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(KafkaConstants.POST_INDEXING_DLT).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);  // 그룹 리밸런싱 없이 전체 파티션 직접 할당 (커밋 오프셋부터 시작)
+
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            log.info("DLT 재처리 시작 - 파티션: {}개, 끝 오프셋: {}", partitions.size(), endOffsets);
+
+            while (!Thread.currentThread().isInterrupted() && updateRemaining(consumer, endOffsets) > 0) {
+                long batchStartedAt = System.nanoTime();
+                ConsumerRecords<String, Object> records =
+                        consumer.poll(Duration.ofMillis(BoardConstants.DLT_REPLAY_POLL_TIMEOUT_MILLIS));
+                if (records.isEmpty()) {
+                    continue;
+                }
+
+                replayBatch(records, endOffsets);
+                commitUpToEnd(consumer, endOffsets);
+                throttle(records.count(), batchStartedAt);
+            }
+        }
+        log.info("DLT 재처리 완료 - 읽음: {}건, 중복: {}건, 역직렬화 불가: {}건, 재반영: {}건, 실패: {}건",
+                readCount.get(), duplicateCount.get(), unparseableCount.get(), replayedCount.get(), failedCount.get());
+    }
+
+    /**
+     * 시작 시점 끝 오프셋 이후 레코드는 제외 (다음 실행에서 처리)
+     */
+    private void replayBatch(ConsumerRecords<String, Object> records, Map<TopicPartition, Long> endOffsets) {
+        List<PostIndexingMessage> messages = new ArrayList<>();
+        Set<UUID> publicIds = new HashSet<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (record.offset() >= endOffsets.getOrDefault(partition, 0L)) {
+                continue;
+            }
+
+            readCount.incrementAndGet();
+            if (!(record.value() instanceof PostIndexingMessage message)) {
+                unparseableCount.incrementAndGet();
+                log.warn("DLT 레코드 역직렬화 불가 - partition: {}, offset: {}, key: {}",
+                        record.partition(), record.offset(), record.key());
+                continue;
+            }
+            messages.add(message);
+            publicIds.add(message.publicId());
+        }
+
+        // publicId별 최신 버전만 반영 (indexMessages에서 병합)
+        duplicateCount.addAndGet(messages.size() - publicIds.size());
+
+        Set<String> failed = postIndexingService.indexMessages(messages);
+        replayedCount.addAndGet(publicIds.size() - failed.size());
+        failedCount.addAndGet(failed.size());
+        failed.forEach(id -> {
+            if (failedIds.size() < BoardConstants.DLT_REPLAY_FAILED_ID_SAMPLE_SIZE) {
+                failedIds.add(id);
+            }
+        });
+        if (!failed.isEmpty()) {
+            log.warn("DLT 재처리 후에도 실패 - {}건: {}", failed.size(), failed);
+        }
+    }
+
+    /**
+     * 처리한 위치 커밋 (끝 오프셋 이후로 함께 poll된 레코드는 건너뛴 것이므로 끝 오프셋까지만)
+     */
+    private void commitUpToEnd(Consumer<String, Object> consumer, Map<TopicPartition, Long> endOffsets) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        endOffsets.forEach((partition, endOffset) ->
+                offsets.put(partition, new OffsetAndMetadata(Math.min(consumer.position(partition), endOffset))));
+        consumer.commitSync(offsets);
+    }
+
+    private long updateRemaining(Consumer<String, Object> consumer, Map<TopicPartition, Long> endOffsets) {
+        long remaining = endOffsets.entrySet().stream()
+                .mapToLong(entry -> Math.max(entry.getValue() - consumer.position(entry.getKey()), 0L))
+                .sum();
+        remainingCount.set(remaining);
+        return remaining;
+    }
+
+    /**
+     * 초당 레코드 수 상한 유지 (배치 처리 시간이 짧으면 남은 시간만큼 대기)
+     */
+    private void throttle(int recordCount, long batchStartedAt) {
+        long minimumNanos = recordCount * 1_000_000_000L / BoardConstants.DLT_REPLAY_MAX_RECORDS_PER_SECOND;
+        long remainingNanos = minimumNanos - (System.nanoTime() - batchStartedAt);
+        if (remainingNanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(remainingNanos).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
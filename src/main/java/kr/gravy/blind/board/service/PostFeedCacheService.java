@@ -0,0 +1,83 @@
+package kr.gravy.blind.board.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import kr.gravy.blind.board.dto.GetListPostDto;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.infrastructure.redis.RedisJsonCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.FEED_FIRST_CURSOR_PAGE_KEY_PREFIX;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.FEED_FIRST_PAGE_KEY_PREFIX;
+
+/**
+ * 카테고리 피드 첫 페이지 캐시
+ * - 첫 페이지는 카테고리 내 모든 사용자에게 동일 → Redis에 응답 그대로 저장
+ * - 게시글 생성/삭제 이벤트(AFTER_COMMIT)로 해당 카테고리 캐시를 무효화 표시로 교체
+ * - 조회는 SET NX로 저장 → 무효화 이전에 읽은 첫 페이지가 늦게 저장되어 삭제된 글이 TTL 동안 남는 경쟁 방지
+ * - 카운터 값은 짧은 TTL로 지연 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostFeedCacheService {
+
+    private static final Duration TTL = Duration.ofSeconds(BoardConstants.FEED_CACHE_TTL_SECONDS);
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(BoardConstants.FEED_CACHE_TOMBSTONE_TTL_SECONDS);
+
+    /**
+     * PostController 기본 정렬 (@PageableDefault sort = "createdAt")
+     */
+    private static final Sort DEFAULT_SORT = Sort.by("createdAt");
+
+    private static final TypeReference<GetListPostDto.PageResponse> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<GetListPostDto.CursorResponse> CURSOR_PAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisJsonCache redisJsonCache;
+
+    /**
+     * @param pageable 요청 페이지
+     * @return 캐시 대상 여부 (첫 페이지 + 기본 크기/정렬)
+     */
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() == 0
+                && pageable.getPageSize() == BoardConstants.FEED_CACHE_PAGE_SIZE
+                && (pageable.getSort().isUnsorted() || pageable.getSort().equals(DEFAULT_SORT));
+    }
+
+    /**
+     * @param cursor 요청 커서
+     * @param size   페이지 크기
+     * @return 캐시 대상 여부 (첫 페이지 + 기본 크기)
+     */
+    public boolean isCacheable(String cursor, int size) {
+        return (cursor == null || cursor.isBlank()) && size == BoardConstants.FEED_CACHE_PAGE_SIZE;
+    }
+
+    public GetListPostDto.PageResponse getFirstPage(PostCategory category, Supplier<GetListPostDto.PageResponse> loader) {
+        return redisJsonCache.getOrLoadIfAbsent(FEED_FIRST_PAGE_KEY_PREFIX + category.name(), PAGE_TYPE, TTL, loader);
+    }
+
+    public GetListPostDto.CursorResponse getFirstCursorPage(PostCategory category, Supplier<GetListPostDto.CursorResponse> loader) {
+        return redisJsonCache.getOrLoadIfAbsent(FEED_FIRST_CURSOR_PAGE_KEY_PREFIX + category.name(), CURSOR_PAGE_TYPE, TTL, loader);
+    }
+
+    /**
+     * @param category 게시글이 생성/삭제된 카테고리
+     */
+    public void evict(PostCategory category) {
+        redisJsonCache.invalidate(FEED_FIRST_PAGE_KEY_PREFIX + category.name(), TOMBSTONE_TTL);
+        redisJsonCache.invalidate(FEED_FIRST_CURSOR_PAGE_KEY_PREFIX + category.name(), TOMBSTONE_TTL);
+        log.debug("피드 첫 페이지 캐시 무효화 - category: {}", category);
+    }
+}
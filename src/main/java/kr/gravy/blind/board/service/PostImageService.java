@@ -12,6 +12,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -91,4 +97,26 @@ public class PostImageService {
     public String getCdnImageUrl(String s3Key, kr.gravy.blind.common.type.ImageSize imageSize) {
         return s3Service.getCdnImageUrl(s3Key, imageSize);
     }
+
+    /**
+     * 목록용 썸네일 URL 일괄 조회 (게시글별 첫 이미지, 단일 쿼리)
+     *
+     * @param posts 게시글 목록
+     * @return 게시글 순서와 동일한 썸네일 URL 목록 (이미지 없으면 null 원소)
+     */
+    public List<String> getThumbnailUrls(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        Map<Long, PostImage> imageByPostId = postImageRepository.findFirstImagesByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostImage::getPostId, Function.identity()));
+
+        return posts.stream()
+                .map(post -> Optional.ofNullable(imageByPostId.get(post.getId()))
+                        .map(image -> getCdnImageUrl(image.getS3Key(), kr.gravy.blind.common.type.ImageSize.THUMBNAIL))
+                        .orElse(null))
+                .toList();
+    }
 }
@@ -0,0 +1,209 @@
+package kr.gravy.blind.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.gravy.blind.board.entity.PostIndexingOutbox;
+import kr.gravy.blind.board.event.PostIndexingMessage;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.repository.PostIndexingOutboxRepository;
+import kr.gravy.blind.infrastructure.kafka.KafkaConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글 인덱싱 Outbox 릴레이
+ * - 선점: 짧은 READ COMMITTED 트랜잭션에서 미발행 행을 FOR UPDATE SKIP LOCKED로 읽고 claimed_until 기록 후 커밋
+ *   → 여러 인스턴스가 분산 락 없이 나눠 처리, gap 락이 없어 게시글 작성/삭제의 Outbox INSERT를 막지 않음
+ * - 발행: DB 트랜잭션 밖에서 배치 전체를 비동기 send, 콜백으로 결과 수집 후 배치 단위 마감 시간까지만 대기
+ *   (멱등 프로듀서: 재시도에도 중복/순서 역전 없음, 마감 이후에는 새 send를 시작하지 않음)
+ * - 마감: 두 번째 짧은 트랜잭션에서 완료 행 sent_at 기록, 실패/미완료 행 선점 해제 → 다음 주기 재발행
+ *   (at-least-once, 컨슈머는 외부 버전으로 중복/역전 무시)
+ * - 역직렬화 불가 payload는 failed_at 기록 → 재조회 대상에서 제외 (검색 인덱스는 정합성 점검이 복구)
+ * - 릴레이가 중간에 죽으면 선점 만료(OUTBOX_RELAY_CLAIM_LEASE_SECONDS) 후 다른 인스턴스가 재발행
+ */
+@Slf4j
+@Service
+public class PostIndexingOutboxRelay {
+
+    private final PostIndexingOutboxRepository postIndexingOutboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate claimTransactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PostIndexingOutboxRelay(
+            PostIndexingOutboxRepository postIndexingOutboxRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            TransactionTemplate transactionTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper
+    ) {
+        this.postIndexingOutboxRepository = postIndexingOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+
+        // 잠금 읽기의 next-key/gap 락 방지 (REPEATABLE READ 기본값이면 새 Outbox 행 INSERT가 대기)
+        this.claimTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.claimTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * 미발행 메시지 발행 (배치가 모두 처리되면 이어서 처리)
+     */
+    @Scheduled(fixedDelay = BoardConstants.OUTBOX_RELAY_INTERVAL_MILLIS)
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == BoardConstants.OUTBOX_RELAY_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("인덱싱 Outbox 릴레이 실패 - 미발행분은 다음 주기(또는 선점 만료 후) 재처리", e);
+        }
+    }
+
+    /**
+     * @return 처리 완료 행 수 (실패/미완료가 있으면 0 → 이번 주기 중단)
+     */
+    private int relayBatch() {
+        List<PostIndexingOutbox> claimed = claimTransactionTemplate.execute(status -> claimPending());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sentIds = Collections.synchronizedList(new ArrayList<>());
+        List<Long> unparseableIds = new ArrayList<>();
+        List<CompletableFuture<?>> sends = new ArrayList<>(claimed.size());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(BoardConstants.OUTBOX_RELAY_SEND_TIMEOUT_SECONDS);
+
+        for (PostIndexingOutbox outbox : claimed) {
+            PostIndexingMessage message;
+            try {
+                message = objectMapper.readValue(outbox.getPayload(), PostIndexingMessage.class);
+            } catch (Exception e) {
+                unparseableIds.add(outbox.getId());
+                log.error("인덱싱 Outbox payload 역직렬화 실패 - 발행 불가 처리 - id: {}, publicId: {}",
+                        outbox.getId(), outbox.getPostPublicId(), e);
+                continue;
+            }
+
+            // 브로커 장애 시 send마다 max.block.ms 블록 → 마감 이후에는 새 send 중단 (남은 행은 선점 해제)
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            try {
+                sends.add(kafkaTemplate.send(
+                        KafkaConstants.POST_INDEXING_TOPIC,
+                        outbox.getPostPublicId().toString(),  // Key: publicId (파티션 할당 기준)
+                        message
+                ).whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        sentIds.add(outbox.getId());
+                    } else {
+                        log.warn("인덱싱 Outbox 발행 실패 - 다음 주기 재시도 - id: {}, publicId: {}",
+                                outbox.getId(), outbox.getPostPublicId(), ex);
+                    }
+                }));
+            } catch (Exception e) {
+                log.error("인덱싱 Outbox 발행 요청 실패 - 배치 중단 - id: {}, publicId: {}",
+                        outbox.getId(), outbox.getPostPublicId(), e);
+                break;
+            }
+        }
+
+        awaitSends(sends, deadline, claimed.size(), sentIds);
+
+        List<Long> completedIds = List.copyOf(sentIds);
+        Set<Long> settledIds = new HashSet<>(completedIds);
+        settledIds.addAll(unparseableIds);
+        List<Long> releaseIds = claimed.stream()
+                .map(PostIndexingOutbox::getId)
+                .filter(id -> !settledIds.contains(id))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> finish(completedIds, unparseableIds, releaseIds));
+
+        log.debug("인덱싱 Outbox 발행 - 대상: {}건, 완료: {}건, 발행 불가: {}건, 재시도: {}건",
+                claimed.size(), completedIds.size(), unparseableIds.size(), releaseIds.size());
+        return releaseIds.isEmpty() ? claimed.size() : 0;
+    }
+
+    private List<PostIndexingOutbox> claimPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostIndexingOutbox> pending = postIndexingOutboxRepository
+                .findClaimableForUpdate(now, BoardConstants.OUTBOX_RELAY_BATCH_SIZE);
+        if (!pending.isEmpty()) {
+            postIndexingOutboxRepository.claim(
+                    pending.stream().map(PostIndexingOutbox::getId).toList(),
+                    now.plusSeconds(BoardConstants.OUTBOX_RELAY_CLAIM_LEASE_SECONDS)
+            );
+        }
+        return pending;
+    }
+
+    /**
+     * 배치 단위 마감 시간까지만 대기 (미완료 행은 선점 해제 후 재발행)
+     */
+    private void awaitSends(List<CompletableFuture<?>> sends, long deadline, int claimedCount, List<Long> sentIds) {
+        try {
+            long remainingNanos = Math.max(deadline - System.nanoTime(), 0L);
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("인덱싱 Outbox 일부 발행 미완료 - 대상: {}건, 완료: {}건", claimedCount, sentIds.size());
+        }
+    }
+
+    private void finish(List<Long> completedIds, List<Long> unparseableIds, List<Long> releaseIds) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!completedIds.isEmpty()) {
+            postIndexingOutboxRepository.markSent(completedIds, now);
+        }
+        if (!unparseableIds.isEmpty()) {
+            postIndexingOutboxRepository.markFailed(unparseableIds, now);
+        }
+        if (!releaseIds.isEmpty()) {
+            postIndexingOutboxRepository.release(releaseIds);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 행 정리
+     */
+    @Scheduled(fixedDelay = BoardConstants.OUTBOX_CLEANUP_INTERVAL_MILLIS)
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusHours(BoardConstants.OUTBOX_RETENTION_HOURS);
+        try {
+            int deleted;
+            int total = 0;
+            do {
+                deleted = transactionTemplate.execute(status -> postIndexingOutboxRepository
+                        .deleteSentBefore(before, BoardConstants.OUTBOX_CLEANUP_BATCH_SIZE));
+                total += deleted;
+            } while (deleted == BoardConstants.OUTBOX_CLEANUP_BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("인덱싱 Outbox 정리 - 삭제: {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("인덱싱 Outbox 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package kr.gravy.blind.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.entity.PostIndexingOutbox;
+import kr.gravy.blind.board.event.PostIndexingMessage;
+import kr.gravy.blind.board.repository.PostIndexingOutboxRepository;
+import kr.gravy.blind.common.type.ImageSize;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 인덱싱 Outbox 기록
+ * - 게시글 변경 트랜잭션에 참여 (MANDATORY) → 커밋/롤백이 게시글과 함께 결정
+ * - Kafka 발행은 PostIndexingOutboxRelay가 비동기로 처리 → 요청 지연이 브로커 상태와 무관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class PostIndexingOutboxService {
+
+    private final PostIndexingOutboxRepository postIndexingOutboxRepository;
+    private final PostImageService postImageService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글 생성 인덱싱 메시지 기록 (payload 포함 → 컨슈머 MySQL 재조회 없음)
+     *
+     * @param post       생성된 게시글
+     * @param imageS3Key 첨부 이미지 S3 Key (null 가능)
+     */
+    public void appendIndex(Post post, String imageS3Key) {
+        String imageUrl = imageS3Key != null
+                ? postImageService.getCdnImageUrl(imageS3Key, ImageSize.THUMBNAIL)
+                : null;
+
+        append(PostIndexingMessage.forIndexing(
+                post.getPublicId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCategory(),
+                imageUrl,
+                post.getCreatedAt()
+        ));
+    }
+
+    /**
+     * 게시글 삭제 인덱싱 메시지 기록
+     *
+     * @param post 삭제된 게시글
+     */
+    public void appendDelete(Post post) {
+        append(PostIndexingMessage.forDeletion(post.getPublicId(), post.getCategory()));
+    }
+
+    private void append(PostIndexingMessage message) {
+        try {
+            postIndexingOutboxRepository.save(
+                    PostIndexingOutbox.create(message.publicId(), objectMapper.writeValueAsString(message))
+            );
+            log.debug("인덱싱 Outbox 기록 - publicId: {}, operation: {}", message.publicId(), message.operation());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인덱싱 메시지 직렬화 실패: publicId=" + message.publicId(), e);
+        }
+    }
+}
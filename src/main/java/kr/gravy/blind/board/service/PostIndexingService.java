@@ -3,20 +3,42 @@ package kr.gravy.blind.board.service;
 import kr.gravy.blind.board.entity.Post;
 import kr.gravy.blind.board.entity.PostDocument;
 import kr.gravy.blind.board.event.PostIndexingMessage;
+import kr.gravy.blind.board.exception.PostSearchException;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostBulkResult;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostIndexOperation;
 import kr.gravy.blind.board.repository.PostRepository;
 import kr.gravy.blind.board.repository.PostSearchRepository;
-import kr.gravy.blind.common.exception.BlindException;
 import kr.gravy.blind.infrastructure.kafka.KafkaConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import static kr.gravy.blind.common.exception.Status.POST_NOT_FOUND;
-
-
+/**
+ * 게시글 검색 인덱스 동기화 (Kafka 배치 컨슈머)
+ * - poll 단위로 메시지를 모아 publicId별 최신 버전 작업만 남김
+ * - 메시지 payload로 Document 구성 (MySQL 재조회 없음), payload 없는 구버전 메시지만 일괄 조회
+ * - 외부 버전(version_type=external, 상태 단계 + 구성 시각)으로 Bulk 요청 → 순서가 뒤바뀐 메시지가 최신 문서를 덮어쓰지 못함
+ * - Bulk 응답의 실패 항목만 재시도, 재시도 소진 시 해당 게시글의 첫 레코드 위치로 BatchListenerFailedException
+ *   → 에러 핸들러가 앞 레코드는 커밋, 실패 레코드만 재시도/DLT (배치 전체 재처리 없음)
+ * - 역직렬화 실패 레코드(null 값)도 위치를 지정해 같은 방식으로 격리
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,50 +47,200 @@ public class PostIndexingService {
     private final PostRepository postRepository;
     private final PostSearchRepository postSearchRepository;
     private final PostImageService postImageService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostSearchCacheService postSearchCacheService;
 
     @KafkaListener(
             topics = KafkaConstants.POST_INDEXING_TOPIC,
             groupId = "${spring.kafka.consumer.group-id}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory"
     )
-    public void handlePostIndexing(PostIndexingMessage message) {
-        log.info("Kafka 메시지 수신: publicId={}, operation={}",
-                message.publicId(), message.operation());
+    public void handlePostIndexingBatch(List<ConsumerRecord<String, PostIndexingMessage>> records) {
+        List<PostIndexingMessage> messages = new ArrayList<>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            PostIndexingMessage message = records.get(index).value();
+            if (message == null) {
+                // ErrorHandlingDeserializer: 역직렬화 실패 → 앞 레코드만 처리/커밋, 이 레코드는 DLT
+                indexOrFail(messages);
+                throw new BatchListenerFailedException("인덱싱 메시지 역직렬화 실패", index);
+            }
+            messages.add(message);
+        }
 
-        try {
+        indexOrFail(messages);
+    }
+
+    /**
+     * 실패 게시글만 재전달 대상 (이전 레코드는 커밋)
+     */
+    private void indexOrFail(List<PostIndexingMessage> messages) {
+        Set<String> failedIds = indexMessages(messages);
+        if (!failedIds.isEmpty()) {
+            throw new BatchListenerFailedException(
+                    "게시글 Bulk 인덱싱 재시도 소진: 실패 ID=" + failedIds, firstIndexOf(messages, failedIds));
+        }
+    }
+
+    /**
+     * 인덱싱 메시지 반영 (컨슈머, DLT 재처리 공유)
+     * - publicId별 최신 버전만 Bulk 반영 → 검색 캐시 세대 증가 → 재구축 중이면 이중 기록
+     *
+     * @param messages 수신 순서의 인덱싱 메시지
+     * @return 재시도 소진 후에도 실패한 게시글 ID (쓰기 별칭 기준, 전부 성공 시 빈 Set)
+     * @throws PostSearchException Bulk 요청 자체 실패 (OpenSearch 연결 불가 등)
+     */
+    public Set<String> indexMessages(List<PostIndexingMessage> messages) {
+        if (messages.isEmpty()) {
+            return Set.of();
+        }
+
+        Collection<PostIndexingMessage> latestMessages = collapseMessages(messages);
+        log.info("인덱싱 메시지 반영: 메시지 {}건 → 작업 {}건", messages.size(), latestMessages.size());
+
+        List<PostIndexOperation> operations = new ArrayList<>();
+        List<UUID> legacyIndexIds = new ArrayList<>();
+        for (PostIndexingMessage message : latestMessages) {
             switch (message.operation()) {
-                case INDEX -> indexPost(message.publicId());
-                case DELETE -> deletePost(message.publicId());
+                case INDEX -> {
+                    if (message.hasPayload()) {
+                        operations.add(PostIndexOperation.index(PostDocument.from(message), message.resolveVersion()));
+                    } else {
+                        legacyIndexIds.add(message.publicId());
+                    }
+                }
+                case DELETE -> operations.add(
+                        PostIndexOperation.delete(message.publicId().toString(), message.resolveVersion()));
             }
-        } catch (Exception e) {
-            log.error("Elasticsearch 인덱싱 실패: publicId={}, operation={}, error={}",
-                    message.publicId(), message.operation(), e.getMessage(), e);
-            throw e;
         }
+
+        operations.addAll(loadLegacyOperations(legacyIndexIds));
+        Set<String> failedIds = new HashSet<>(bulkUntilSettled(BoardConstants.SEARCH_WRITE_ALIAS, operations).failedIds());
+
+        // 변경된 카테고리의 검색 결과 캐시 세대 증가 (구버전 삭제 메시지는 카테고리 없음 → 전체)
+        Set<PostCategory> changedCategories = new HashSet<>();
+        latestMessages.forEach(message -> changedCategories.add(message.category()));
+        postSearchCacheService.bumpGenerations(changedCategories);
+
+        // 재구축 중이면 새 인덱스에도 이중 기록 (외부 버전으로 재인덱싱과 순서 무관하게 수렴)
+        List<PostIndexOperation> succeeded = operations.stream()
+                .filter(operation -> !failedIds.contains(operation.id()))
+                .toList();
+        postSearchIndexService.getRebuildTarget()
+                .ifPresent(target -> bulkWithRetry(target, succeeded));
+
+        return failedIds;
     }
 
-    private void indexPost(UUID publicId) {
-        Post post = postRepository.findWithImagesByPublicId(publicId)
-                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
+    /**
+     * 실패 게시글의 첫 레코드 위치 (이전 레코드는 모두 성공한 게시글 → 커밋해도 안전)
+     */
+    private int firstIndexOf(List<PostIndexingMessage> messages, Set<String> failedIds) {
+        return IntStream.range(0, messages.size())
+                .filter(index -> failedIds.contains(messages.get(index).publicId().toString()))
+                .findFirst()
+                .orElse(0);
+    }
 
-        String imageUrl = post.getFirstImage()
-                .map(image -> postImageService.getCdnImageUrl(
-                        image.getS3Key(),
-                        kr.gravy.blind.common.type.ImageSize.THUMBNAIL
-                ))
-                .orElse(null);
+    /**
+     * 같은 publicId에 대한 메시지는 버전이 가장 높은 것만 유지 (같은 버전이면 나중 것, 순서 보존)
+     */
+    private Collection<PostIndexingMessage> collapseMessages(List<PostIndexingMessage> messages) {
+        Map<UUID, PostIndexingMessage> latestByPublicId = new LinkedHashMap<>();
+        for (PostIndexingMessage message : messages) {
+            PostIndexingMessage current = latestByPublicId.get(message.publicId());
+            if (current == null || message.resolveVersion() >= current.resolveVersion()) {
+                latestByPublicId.remove(message.publicId());
+                latestByPublicId.put(message.publicId(), message);
+            }
+        }
+        return latestByPublicId.values();
+    }
+
+    /**
+     * payload 없는 구버전 INDEX 메시지 → MySQL 일괄 조회 (게시글 IN 조회 + 첫 이미지 IN 조회)
+     * - 조회 시점에 삭제된 게시글은 삭제 작업으로 전환
+     * - 존재하지 않는 게시글은 스킵
+     */
+    private List<PostIndexOperation> loadLegacyOperations(List<UUID> publicIds) {
+        if (publicIds.isEmpty()) {
+            return List.of();
+        }
+
+        long readAt = System.currentTimeMillis();
+        Map<UUID, Post> postByPublicId = postRepository.findAllByPublicIdIn(publicIds).stream()
+                .collect(Collectors.toMap(Post::getPublicId, Function.identity()));
+
+        List<PostIndexOperation> operations = new ArrayList<>();
+        List<Post> posts = new ArrayList<>();
+        for (UUID publicId : publicIds) {
+            Post post = postByPublicId.get(publicId);
+            if (post == null) {
+                log.warn("인덱싱 대상 게시글 없음, 스킵: publicId={}", publicId);
+            } else if (post.isDeleted()) {
+                operations.add(PostIndexOperation.delete(publicId.toString(), post.getStatus().indexVersionAt(readAt)));
+            } else {
+                posts.add(post);
+            }
+        }
 
-        PostDocument document = PostDocument.from(post, imageUrl);
-        postSearchRepository.save(document);
+        List<String> imageUrls = postImageService.getThumbnailUrls(posts);
+        IntStream.range(0, posts.size())
+                .mapToObj(index -> PostIndexOperation.index(
+                        PostDocument.from(posts.get(index), imageUrls.get(index)),
+                        posts.get(index).getStatus().indexVersionAt(readAt)))
+                .forEach(operations::add);
+        return operations;
+    }
 
-        log.info("Elasticsearch 인덱싱 완료: publicId={}, title={}, imageUrl={}",
-                publicId, post.getTitle(), imageUrl != null);
+    /**
+     * Bulk 요청 후 실패 항목만 재시도 (전체 재인덱싱/카운터 동기화와 공유)
+     *
+     * @param index 대상 인덱스 (쓰기 별칭 또는 재구축 중인 물리 인덱스)
+     * @return 더 높은 외부 버전이 이미 있어 적용되지 않은 Document ID
+     * @throws PostSearchException 재시도 소진 시
+     */
+    public List<String> bulkWithRetry(String index, List<PostIndexOperation> operations) {
+        PostBulkResult result = bulkUntilSettled(index, operations);
+        if (!result.failedIds().isEmpty()) {
+            throw new PostSearchException("게시글 Bulk 인덱싱 재시도 소진: 실패 ID=" + result.failedIds());
+        }
+        return result.conflictedIds();
     }
 
-    private void deletePost(UUID publicId) {
-        String documentId = publicId.toString();
-        postSearchRepository.deleteById(documentId);
+    /**
+     * @return 재시도 소진 후에도 실패한 ID + 시도 중 버전 충돌한 ID
+     * @throws PostSearchException Bulk 요청 자체 실패 (OpenSearch 연결 불가 등)
+     */
+    private PostBulkResult bulkUntilSettled(String index, List<PostIndexOperation> operations) {
+        List<PostIndexOperation> pending = operations;
+        List<String> conflictedIds = new ArrayList<>();
 
-        log.info("Elasticsearch 문서 삭제 완료: publicId={}", publicId);
+        for (int attempt = 0; ; attempt++) {
+            PostBulkResult result = postSearchRepository.bulk(index, pending);
+            conflictedIds.addAll(result.conflictedIds());
+            Set<String> failedIds = new HashSet<>(result.failedIds());
+            if (failedIds.isEmpty()) {
+                log.info("Elasticsearch Bulk 완료: index={}, 작업 {}건, 버전 충돌 {}건", index, operations.size(), conflictedIds.size());
+                return new PostBulkResult(List.of(), conflictedIds);
+            }
+
+            if (attempt >= BoardConstants.SEARCH_BULK_MAX_RETRIES) {
+                return new PostBulkResult(List.copyOf(failedIds), conflictedIds);
+            }
+
+            pending = pending.stream().filter(operation -> failedIds.contains(operation.id())).toList();
+            log.warn("Bulk 실패 항목 재시도 ({}/{}): {}건", attempt + 1, BoardConstants.SEARCH_BULK_MAX_RETRIES, failedIds.size());
+
+            sleep(BoardConstants.SEARCH_BULK_RETRY_BACKOFF_MILLIS * (attempt + 1));
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PostSearchException("Bulk 재시도 대기 중 인터럽트", e);
+        }
     }
 }
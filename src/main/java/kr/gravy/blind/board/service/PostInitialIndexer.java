@@ -1,20 +1,18 @@
 package kr.gravy.blind.board.service;
 
-import kr.gravy.blind.board.entity.Post;
-import kr.gravy.blind.board.entity.PostDocument;
-import kr.gravy.blind.board.model.PostStatus;
-import kr.gravy.blind.board.repository.PostRepository;
-import kr.gravy.blind.board.repository.PostSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * Elasticsearch 초기 인덱싱 (기존 게시글 마이그레이션)
+ * - 기동 시 체크포인트 이후부터 스트리밍 재인덱싱 시작 (비동기, 기동 차단 없음)
+ * - 별칭 보장/레거시 인덱스 이전 이후 실행 (이전 재구축이 시작됐으면 요청 무시)
  */
 @Slf4j
 @Component
@@ -23,51 +21,14 @@ import java.util.List;
         name = "post-indexing.initial-indexing.enabled",
         havingValue = "true"
 )
-public class PostInitialIndexer implements CommandLineRunner {
-
-    private final PostRepository postRepository;
-    private final PostSearchRepository postSearchRepository;
-    private final PostImageService postImageService;
-
-    /**
-     * 애플리케이션 시작 시 실행
-     * - ACTIVE 게시글만 인덱싱 (DELETED 제외)
-     */
-    @Override
-    public void run(String... args) {
-        log.info("=== Elasticsearch 초기 인덱싱 시작 ===");
-
-        try {
-            // 1. ACTIVE 게시글만 조회 (이미지 포함)
-            List<Post> activePosts = postRepository.findAllByStatusWithImages(PostStatus.ACTIVE);
-
-            if (activePosts.isEmpty()) {
-                log.info("인덱싱할 게시글이 없습니다.");
-                return;
-            }
-
-            log.info("인덱싱 대상 게시글 수: {}", activePosts.size());
-
-            // 2. Post → PostDocument 변환 (이미지 URL 생성)
-            List<PostDocument> documents = activePosts.stream()
-                    .map(post -> {
-                        String imageUrl = post.getFirstImage()
-                                .map(image -> postImageService.getCdnImageUrl(
-                                        image.getS3Key(),
-                                        kr.gravy.blind.common.type.ImageSize.THUMBNAIL
-                                ))
-                                .orElse(null);
-                        return PostDocument.from(post, imageUrl);
-                    })
-                    .toList();
-
-            // 3. Elasticsearch bulk indexing
-            postSearchRepository.saveAll(documents);
+public class PostInitialIndexer {
 
-            log.info("=== Elasticsearch 초기 인덱싱 완료: {}건 ===", documents.size());
+    private final PostReindexService postReindexService;
 
-        } catch (Exception e) {
-            log.error("Elasticsearch 초기 인덱싱 실패", e);
-        }
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        log.info("=== Elasticsearch 초기 인덱싱 요청 ===");
+        postReindexService.start(true, false);
     }
 }
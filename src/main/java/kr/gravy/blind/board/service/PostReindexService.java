@@ -0,0 +1,328 @@
+package kr.gravy.blind.board.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.gravy.blind.board.dto.PostReindexDto;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.entity.PostDocument;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostIndexOperation;
+import kr.gravy.blind.board.model.PostStatus;
+import kr.gravy.blind.board.repository.PostRepository;
+import kr.gravy.blind.infrastructure.redis.RedisConstants;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 인덱스 전체 재인덱싱 (관리자 트리거, 기동 시 옵션, 레거시 인덱스 이전)
+ * - 일반 모드: 쓰기 별칭(현재 인덱스)에 다시 반영 (누락 복구)
+ * - 재구축 모드: 새 물리 인덱스에 반영 후 별칭 교체 (분석기/매핑 변경 시, 검색 중단 없음)
+ * - id Keyset 청크 단위로 MySQL 스트리밍 (전체 목록을 메모리에 올리지 않음)
+ * - 청크를 작업 수/바이트 상한으로 나눠 Bulk 요청, 최대 SEARCH_REINDEX_MAX_IN_FLIGHT개 동시 진행
+ * - 청크의 Bulk가 모두 끝나면 순서대로 Redis 체크포인트 갱신 → 중단 후 이어서 실행 가능
+ * - 외부 버전(청크 조회 시각)으로 요청 → 이전 Document는 덮어쓰고, 조회 이후 실시간 변경은 덮어쓰지 않음
+ * - 더 높은 버전이 이미 있어 반영되지 않은 작업은 인덱싱/삭제 수와 별도로 버전 충돌 수로 집계
+ * - 분산 락은 짧은 TTL + 하트비트 연장, 락을 잃으면 다음 청크 전에 중단 (체크포인트에서 재개 가능)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostReindexService {
+
+    // UTF-8 한글 3바이트 + 필드명/메타데이터 여유분
+    private static final int BYTES_PER_CHAR = 3;
+    private static final int OPERATION_OVERHEAD_BYTES = 512;
+
+    private final PostRepository postRepository;
+    private final PostImageService postImageService;
+    private final PostIndexingService postIndexingService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final RedisLockService redisLockService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService bulkExecutor = Executors.newFixedThreadPool(BoardConstants.SEARCH_REINDEX_MAX_IN_FLIGHT);
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean lockLost = new AtomicBoolean(false);
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong conflictedCount = new AtomicLong();
+    private volatile String targetIndex = BoardConstants.SEARCH_WRITE_ALIAS;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    /**
+     * 재인덱싱 비동기 시작
+     *
+     * @param resume  true: 체크포인트(재구축 중인 인덱스) 이어서, false: 처음부터
+     * @param rebuild true: 새 물리 인덱스로 재구축 후 별칭 교체
+     * @return 시작 여부 (이 인스턴스에서 이미 실행 중이면 false)
+     */
+    public boolean start(boolean resume, boolean rebuild) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("검색 재인덱싱 이미 실행 중 - 요청 무시");
+            return false;
+        }
+
+        indexedCount.set(0);
+        deletedCount.set(0);
+        conflictedCount.set(0);
+        lockLost.set(false);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        failureMessage = null;
+
+        jobExecutor.execute(() -> {
+            try {
+                boolean executed = redisLockService.executeWithRenewableLock(
+                        RedisConstants.SEARCH_REINDEX_LOCK_KEY,
+                        Duration.ofSeconds(BoardConstants.SEARCH_REINDEX_LOCK_TTL_SECONDS),
+                        () -> lockLost.set(true),
+                        () -> run(resume, rebuild)
+                );
+                if (!executed) {
+                    failureMessage = "다른 인스턴스에서 재인덱싱 실행 중";
+                    log.warn("검색 재인덱싱 락 획득 실패 - 다른 인스턴스에서 실행 중");
+                }
+            } catch (Exception e) {
+                failureMessage = e.getMessage();
+                log.error("검색 재인덱싱 실패 - target={}, checkpoint={}", targetIndex, getCheckpoint(targetIndex), e);
+            } finally {
+                finishedAt = LocalDateTime.now();
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 별칭 도입 이전 인덱스(posts) 사용 중이면 기동 시 새 물리 인덱스로 재구축 (1회성 이전)
+     * - 별칭 보장 이후, 초기 인덱싱보다 먼저 실행 → 이전이 시작되면 초기 인덱싱 요청은 무시됨
+     * - 다른 인스턴스가 이미 이전 중이면 락 획득 실패로 종료
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyIndex() {
+        try {
+            if (postSearchIndexService.requiresLegacyMigration()) {
+                log.info("=== 레거시 검색 인덱스({}) 이전 재구축 요청 ===", BoardConstants.SEARCH_LEGACY_INDEX);
+                start(true, true);
+            }
+        } catch (Exception e) {
+            log.error("레거시 검색 인덱스 이전 확인 실패 - 관리자 재구축 필요", e);
+        }
+    }
+
+    public PostReindexDto.StatusResponse getStatus() {
+        String target = targetIndex;
+        return new PostReindexDto.StatusResponse(
+                running.get(),
+                target,
+                getCheckpoint(target),
+                indexedCount.get(),
+                deletedCount.get(),
+                conflictedCount.get(),
+                startedAt,
+                finishedAt,
+                failureMessage
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+
+    private void run(boolean resume, boolean rebuild) {
+        if (!rebuild) {
+            targetIndex = BoardConstants.SEARCH_WRITE_ALIAS;
+            reindex(targetIndex, resume);
+            return;
+        }
+
+        // 대상 등록(이중 기록 시작) 이후에 MySQL을 읽어야 그 사이 변경이 누락되지 않음
+        targetIndex = postSearchIndexService.prepareRebuildTarget(resume);
+        reindex(targetIndex, resume);
+        ensureLockHeld();
+        postSearchIndexService.completeRebuild(targetIndex);
+    }
+
+    private void reindex(String index, boolean resume) {
+        String checkpointKey = RedisConstants.SEARCH_REINDEX_CHECKPOINT_KEY_PREFIX + index;
+        if (!resume) {
+            stringRedisTemplate.delete(checkpointKey);
+        }
+        Long checkpoint = getCheckpoint(index);
+        long lastId = checkpoint != null ? checkpoint : 0L;
+        log.info("=== 검색 재인덱싱 시작: index={}, 시작 id > {} ===", index, lastId);
+
+        Semaphore inFlight = new Semaphore(BoardConstants.SEARCH_REINDEX_MAX_IN_FLIGHT);
+        Deque<PendingChunk> pendingChunks = new ArrayDeque<>();
+
+        while (true) {
+            ensureLockHeld();
+            long readAt = System.currentTimeMillis();
+            List<Post> posts = postRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, Limit.of(BoardConstants.SEARCH_REINDEX_CHUNK_SIZE));
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            List<CompletableFuture<Void>> bulks = splitBulks(toOperations(posts, readAt)).stream()
+                    .map(batch -> submitBulk(index, batch, inFlight))
+                    .toList();
+            lastId = posts.get(posts.size() - 1).getId();
+            pendingChunks.addLast(new PendingChunk(lastId, CompletableFuture.allOf(bulks.toArray(CompletableFuture[]::new))));
+
+            advanceCheckpoint(checkpointKey, pendingChunks, false);
+        }
+
+        advanceCheckpoint(checkpointKey, pendingChunks, true);
+        stringRedisTemplate.delete(checkpointKey);
+        log.info("=== 검색 재인덱싱 완료: 인덱싱 {}건, 삭제 {}건, 버전 충돌 {}건 ===",
+                indexedCount.get(), deletedCount.get(), conflictedCount.get());
+    }
+
+    /**
+     * ACTIVE → 인덱싱, DELETED → 삭제 (남아 있는 문서 정리)
+     *
+     * @param readAt 청크 조회 직전 시각 (외부 버전 하위 비트) → 조회 이후 실시간 변경이 재인덱싱 Document보다 우선
+     */
+    private List<PostIndexOperation> toOperations(List<Post> posts, long readAt) {
+        List<Post> activePosts = posts.stream().filter(post -> !post.isDeleted()).toList();
+        List<String> imageUrls = postImageService.getThumbnailUrls(activePosts);
+
+        List<PostIndexOperation> operations = new ArrayList<>(posts.size());
+        for (int index = 0; index < activePosts.size(); index++) {
+            Post post = activePosts.get(index);
+            operations.add(PostIndexOperation.index(
+                    PostDocument.from(post, imageUrls.get(index)),
+                    PostStatus.ACTIVE.indexVersionAt(readAt)));
+        }
+        posts.stream()
+                .filter(Post::isDeleted)
+                .forEach(post -> operations.add(PostIndexOperation.delete(
+                        post.getPublicId().toString(),
+                        PostStatus.DELETED.indexVersionAt(readAt))));
+        return operations;
+    }
+
+    /**
+     * 작업 수 또는 추정 바이트가 상한에 닿으면 Bulk 요청 분리
+     */
+    private List<List<PostIndexOperation>> splitBulks(List<PostIndexOperation> operations) {
+        List<List<PostIndexOperation>> batches = new ArrayList<>();
+        List<PostIndexOperation> current = new ArrayList<>();
+        long currentBytes = 0;
+
+        for (PostIndexOperation operation : operations) {
+            long bytes = estimateBytes(operation);
+            if (!current.isEmpty() && (current.size() >= BoardConstants.SEARCH_REINDEX_BULK_MAX_OPERATIONS
+                    || currentBytes + bytes > BoardConstants.SEARCH_REINDEX_BULK_MAX_BYTES)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(operation);
+            currentBytes += bytes;
+        }
+
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private long estimateBytes(PostIndexOperation operation) {
+        if (operation.isDeletion()) {
+            return OPERATION_OVERHEAD_BYTES;
+        }
+        PostDocument document = operation.document();
+        return (long) (document.getTitle().length() + document.getContent().length()) * BYTES_PER_CHAR
+                + OPERATION_OVERHEAD_BYTES;
+    }
+
+    /**
+     * 동시 진행 수 제한 (permit 없으면 읽기 루프가 대기 → 메모리 상한 유지)
+     */
+    private CompletableFuture<Void> submitBulk(String index, List<PostIndexOperation> batch, Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재인덱싱 중단", e);
+        }
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Set<String> conflictedIds = new HashSet<>(postIndexingService.bulkWithRetry(index, batch));
+                conflictedCount.addAndGet(conflictedIds.size());
+                for (PostIndexOperation operation : batch) {
+                    if (conflictedIds.contains(operation.id())) {
+                        continue;
+                    }
+                    (operation.isDeletion() ? deletedCount : indexedCount).incrementAndGet();
+                }
+            } finally {
+                inFlight.release();
+            }
+        }, bulkExecutor);
+    }
+
+    /**
+     * 앞선 청크부터 완료된 만큼 체크포인트 전진 (뒤 청크가 먼저 끝나도 건너뛰지 않음)
+     * - Bulk 실패 시 join에서 예외 → 마지막 체크포인트에서 재개 가능
+     *
+     * @param waitAll true: 남은 청크 모두 완료 대기
+     */
+    private void advanceCheckpoint(String checkpointKey, Deque<PendingChunk> pendingChunks, boolean waitAll) {
+        while (!pendingChunks.isEmpty() && (waitAll || pendingChunks.peekFirst().completion().isDone())) {
+            PendingChunk chunk = pendingChunks.pollFirst();
+            chunk.completion().join();
+            stringRedisTemplate.opsForValue().set(checkpointKey, String.valueOf(chunk.lastId()));
+            log.debug("검색 재인덱싱 체크포인트 갱신: id={}", chunk.lastId());
+        }
+    }
+
+    /**
+     * 락을 잃었으면 (하트비트 연장 실패 후 만료) 다른 인스턴스와 동시 실행되지 않도록 중단
+     */
+    private void ensureLockHeld() {
+        if (lockLost.get()) {
+            throw new IllegalStateException("재인덱싱 락 상실 - 체크포인트에서 재개 필요");
+        }
+    }
+
+    private Long getCheckpoint(String index) {
+        String value = stringRedisTemplate.opsForValue().get(RedisConstants.SEARCH_REINDEX_CHECKPOINT_KEY_PREFIX + index);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private record PendingChunk(long lastId, CompletableFuture<Void> completion) {
+    }
+}
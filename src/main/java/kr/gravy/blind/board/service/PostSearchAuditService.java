@@ -0,0 +1,238 @@
+package kr.gravy.blind.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.entity.PostDocument;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostBulkResult;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostIndexOperation;
+import kr.gravy.blind.board.model.PostStatus;
+import kr.gravy.blind.board.repository.PostRepository;
+import kr.gravy.blind.board.repository.PostSearchRepository;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.SEARCH_AUDIT_CURSOR_KEY;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.SEARCH_AUDIT_LOCK_KEY;
+
+/**
+ * MySQL 게시글 ↔ 검색 인덱스 정합성 점검
+ * - 주기마다 게시글 청크 1개를 Keyset(PK 순서)으로 읽고 mget 1회로 Document 지문 비교 → 초당 점검량 상한
+ * - 활성 게시글: Document 누락/지문 불일치 시 재인덱싱, 삭제 게시글: Document가 남아 있으면 삭제
+ * - 진행 위치는 Redis에 보관 (끝에 도달하면 처음부터 다시 순회)
+ * - 최근 변경 게시글은 제외 (Outbox/컨슈머 반영 전이라 오탐), 재구축 중에는 점검 중단 (새 인덱스가 곧 교체)
+ * - 검색 인덱스에만 남은 Document(MySQL 행 없음)는 점검 대상 아님
+ */
+@Slf4j
+@Service
+public class PostSearchAuditService {
+
+    private enum DriftType {
+        MISSING,          // 활성 게시글인데 Document 없음
+        STALE,            // 지문 불일치 (지문 필드 도입 전 Document 포함)
+        DELETED_INDEXED   // 삭제 게시글인데 Document 남음
+    }
+
+    private final PostRepository postRepository;
+    private final PostImageService postImageService;
+    private final PostSearchRepository postSearchRepository;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostSearchCacheService postSearchCacheService;
+    private final PostSearchCounterSyncService postSearchCounterSyncService;
+    private final RedisLockService redisLockService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Counter checkedCounter;
+    private final Counter repairFailedCounter;
+    private final Counter passCounter;
+    private final Map<DriftType, Counter> driftCounters = new EnumMap<>(DriftType.class);
+    private final AtomicLong cursor = new AtomicLong();
+
+    public PostSearchAuditService(
+            PostRepository postRepository,
+            PostImageService postImageService,
+            PostSearchRepository postSearchRepository,
+            PostSearchIndexService postSearchIndexService,
+            PostSearchCacheService postSearchCacheService,
+            PostSearchCounterSyncService postSearchCounterSyncService,
+            RedisLockService redisLockService,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.postImageService = postImageService;
+        this.postSearchRepository = postSearchRepository;
+        this.postSearchIndexService = postSearchIndexService;
+        this.postSearchCacheService = postSearchCacheService;
+        this.postSearchCounterSyncService = postSearchCounterSyncService;
+        this.redisLockService = redisLockService;
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.checkedCounter = Counter.builder("blind.search.audit.checked")
+                .description("정합성 점검한 게시글 수")
+                .register(meterRegistry);
+        this.repairFailedCounter = Counter.builder("blind.search.audit.repair.failed")
+                .description("정합성 복구 실패 게시글 수 (버전 충돌 포함)")
+                .register(meterRegistry);
+        this.passCounter = Counter.builder("blind.search.audit.passes")
+                .description("전체 게시글 점검 완료 횟수")
+                .register(meterRegistry);
+        for (DriftType type : DriftType.values()) {
+            driftCounters.put(type, Counter.builder("blind.search.audit.drift")
+                    .description("MySQL과 검색 인덱스 불일치 게시글 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("blind.search.audit.cursor", cursor, AtomicLong::get)
+                .description("마지막으로 점검한 게시글 ID")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 청크 1개 점검 (분산 락으로 단일 인스턴스만 실행)
+     */
+    @Scheduled(fixedDelay = BoardConstants.SEARCH_AUDIT_INTERVAL_MILLIS)
+    public void audit() {
+        try {
+            redisLockService.executeWithLock(
+                    SEARCH_AUDIT_LOCK_KEY,
+                    Duration.ofMillis(BoardConstants.SEARCH_AUDIT_LOCK_TTL_MILLIS),
+                    this::auditChunk
+            );
+        } catch (Exception e) {
+            log.error("검색 정합성 점검 실패 - 다음 주기에 같은 위치부터 재시도", e);
+        }
+    }
+
+    private void auditChunk() {
+        if (postSearchIndexService.getRebuildTarget().isPresent()) {
+            return;
+        }
+
+        long lastId = readCursor();
+        List<Post> posts = postRepository.findByIdGreaterThanOrderByIdAsc(
+                lastId, Limit.of(BoardConstants.SEARCH_AUDIT_CHUNK_SIZE));
+        if (posts.isEmpty()) {
+            writeCursor(0L);
+            passCounter.increment();
+            log.debug("검색 정합성 점검 1회 순회 완료 - 마지막 ID: {}", lastId);
+            return;
+        }
+
+        LocalDateTime graceBoundary = LocalDateTime.now().minusSeconds(BoardConstants.SEARCH_AUDIT_GRACE_SECONDS);
+        List<Post> targets = posts.stream()
+                .filter(post -> post.getUpdatedAt().isBefore(graceBoundary))
+                .toList();
+
+        if (!targets.isEmpty()) {
+            repair(targets, findDrifted(targets));
+        }
+        writeCursor(posts.get(posts.size() - 1).getId());
+    }
+
+    /**
+     * @return 불일치 게시글 → 불일치 유형 (점검 순서 유지)
+     */
+    private Map<Post, DriftType> findDrifted(List<Post> posts) {
+        Map<String, String> fingerprints = postSearchRepository.findFingerprints(
+                BoardConstants.SEARCH_WRITE_ALIAS,
+                posts.stream().map(post -> post.getPublicId().toString()).toList()
+        );
+        checkedCounter.increment(posts.size());
+
+        Map<Post, DriftType> drifted = new LinkedHashMap<>();
+        for (Post post : posts) {
+            String indexed = fingerprints.get(post.getPublicId().toString());
+            if (post.isDeleted()) {
+                if (indexed != null) {
+                    drifted.put(post, DriftType.DELETED_INDEXED);
+                }
+            } else if (indexed == null) {
+                drifted.put(post, DriftType.MISSING);
+            } else if (!indexed.equals(PostDocument.fingerprintOf(
+                    post.getTitle(), post.getContent(), post.getCategory().name()))) {
+                drifted.put(post, DriftType.STALE);
+            }
+        }
+        return drifted;
+    }
+
+    /**
+     * 불일치 게시글 복구 (실시간 인덱싱과 같은 외부 버전 체계, 복구 시각 기준)
+     * - 복구 시각 버전은 기존 Document보다 높음 → 불일치 Document 덮어씀, 이후 삭제(상위 단계)는 그대로 우선
+     * - 버전 충돌(409)도 복구 실패로 집계 (복구가 반영되지 않음, 다음 순회에서 재점검)
+     */
+    private void repair(List<Post> posts, Map<Post, DriftType> drifted) {
+        if (drifted.isEmpty()) {
+            return;
+        }
+
+        List<Post> reindexTargets = drifted.keySet().stream().filter(post -> !post.isDeleted()).toList();
+        List<String> imageUrls = postImageService.getThumbnailUrls(reindexTargets);
+
+        long now = System.currentTimeMillis();
+        List<PostIndexOperation> operations = new ArrayList<>(drifted.size());
+        for (int i = 0; i < reindexTargets.size(); i++) {
+            operations.add(PostIndexOperation.index(
+                    PostDocument.from(reindexTargets.get(i), imageUrls.get(i)), PostStatus.ACTIVE.indexVersionAt(now)));
+        }
+        drifted.keySet().stream()
+                .filter(Post::isDeleted)
+                .forEach(post -> operations.add(PostIndexOperation.delete(
+                        post.getPublicId().toString(), PostStatus.DELETED.indexVersionAt(now))));
+
+        PostBulkResult result = postSearchRepository.bulk(BoardConstants.SEARCH_WRITE_ALIAS, operations);
+        Set<String> unrepairedIds = new HashSet<>(result.failedIds());
+        unrepairedIds.addAll(result.conflictedIds());
+        drifted.values().forEach(type -> driftCounters.get(type).increment());
+        repairFailedCounter.increment(unrepairedIds.size());
+
+        // 재인덱싱 Document의 공감/댓글 수는 엔티티 값 → 샤드 증감분은 카운터 동기화로 보정
+        reindexTargets.stream()
+                .filter(post -> !unrepairedIds.contains(post.getPublicId().toString()))
+                .forEach(postSearchCounterSyncService::markDirty);
+
+        Set<PostCategory> categories = new HashSet<>();
+        drifted.keySet().forEach(post -> categories.add(post.getCategory()));
+        postSearchCacheService.bumpGenerations(categories);
+
+        log.warn("검색 정합성 불일치 복구 - 점검: {}건, 불일치: {}건, 복구 실패: {}건 (버전 충돌 {}건), 상세: {}",
+                posts.size(), drifted.size(), unrepairedIds.size(), result.conflictedIds().size(), summarize(drifted));
+    }
+
+    private Map<DriftType, Long> summarize(Map<Post, DriftType> drifted) {
+        Map<DriftType, Long> summary = new EnumMap<>(DriftType.class);
+        drifted.values().forEach(type -> summary.merge(type, 1L, Long::sum));
+        return summary;
+    }
+
+    private long readCursor() {
+        String value = stringRedisTemplate.opsForValue().get(SEARCH_AUDIT_CURSOR_KEY);
+        long lastId = value != null ? Long.parseLong(value) : 0L;
+        cursor.set(lastId);
+        return lastId;
+    }
+
+    private void writeCursor(long lastId) {
+        stringRedisTemplate.opsForValue().set(SEARCH_AUDIT_CURSOR_KEY, String.valueOf(lastId));
+        cursor.set(lastId);
+    }
+}
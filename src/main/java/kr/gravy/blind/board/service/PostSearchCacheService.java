@@ -0,0 +1,184 @@
+package kr.gravy.blind.board.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import kr.gravy.blind.board.dto.PostSearchDto;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostSearchSort;
+import kr.gravy.blind.infrastructure.redis.RedisJsonCache;
+import kr.gravy.blind.user.model.Gender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.SEARCH_GENERATION_KEY_PREFIX;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.SEARCH_RESULT_KEY_PREFIX;
+
+/**
+ * 검색 결과 캐시
+ * - 키: 정규화 키워드 + 카테고리 + 페이지 + 카테고리 세대 (+ 전체 검색이면 사용자 성별, 성별 전용 카테고리 포함 여부가 다름)
+ * - 인덱싱 반영 시 해당 카테고리와 전체(ALL) 세대 증가 → 이전 세대 캐시는 더 이상 조회되지 않음
+ * - 같은 키의 동시 검색은 인스턴스 내에서 하나의 OpenSearch 요청으로 합침 (single-flight)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchCacheService {
+
+    private static final Duration TTL = Duration.ofSeconds(BoardConstants.SEARCH_CACHE_TTL_SECONDS);
+    private static final String ALL_CATEGORIES = "ALL";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final TypeReference<PostSearchDto.PageResponse> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisJsonCache redisJsonCache;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<String, CompletableFuture<PostSearchDto.PageResponse>> inFlightSearches = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 키워드 정규화 (NFKC + 소문자 + 공백 정리)
+     * - nori_analyzer의 lowercase 필터와 같은 기준 → 같은 검색 결과를 내는 입력이 같은 키로 모임
+     */
+    public static String normalizeKeyword(String keyword) {
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * 캐시 조회, 미스 시 검색 (동시 요청은 하나로 합침)
+     *
+     * @param keyword  정규화된 키워드
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param gender   검색 사용자 성별
+     * @param sort     정렬 방식
+     * @param pageable 페이징 정보
+     * @param search   OpenSearch 검색
+     */
+    public PostSearchDto.PageResponse getOrSearch(
+            String keyword,
+            PostCategory category,
+            Gender gender,
+            PostSearchSort sort,
+            Pageable pageable,
+            Supplier<PostSearchDto.PageResponse> search) {
+        if (!isCacheable(keyword, pageable)) {
+            return search.get();
+        }
+
+        Optional<String> key = buildKey(keyword, category, gender, sort, pageable);
+        if (key.isEmpty()) {
+            return search.get();
+        }
+
+        Optional<PostSearchDto.PageResponse> cached = redisJsonCache.get(key.get(), PAGE_TYPE);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<PostSearchDto.PageResponse> flight = new CompletableFuture<>();
+        CompletableFuture<PostSearchDto.PageResponse> existing = inFlightSearches.putIfAbsent(key.get(), flight);
+        if (existing != null) {
+            log.debug("진행 중인 동일 검색 대기 - key: {}", key.get());
+            return await(existing);
+        }
+
+        try {
+            PostSearchDto.PageResponse response = search.get();
+            redisJsonCache.put(key.get(), response, TTL);
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSearches.remove(key.get(), flight);
+        }
+    }
+
+    /**
+     * 인덱싱 반영 후 세대 증가 (전체 검색 세대 포함, 파이프라인 1회)
+     *
+     * @param categories 변경된 카테고리 (null 포함 시 모든 카테고리)
+     */
+    public void bumpGenerations(Collection<PostCategory> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        Set<String> scopes = categories.contains(null)
+                ? Arrays.stream(PostCategory.values()).map(Enum::name).collect(Collectors.toSet())
+                : categories.stream().map(Enum::name).collect(Collectors.toSet());
+        scopes.add(ALL_CATEGORIES);
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                scopes.forEach(scope -> stringConnection.incr(SEARCH_GENERATION_KEY_PREFIX + scope));
+                return null;
+            });
+            log.debug("검색 캐시 세대 증가 - scopes: {}", scopes);
+        } catch (Exception e) {
+            log.warn("검색 캐시 세대 증가 실패, TTL 만료로 갱신 - scopes: {}", scopes, e);
+        }
+    }
+
+    private boolean isCacheable(String keyword, Pageable pageable) {
+        return pageable.getPageNumber() < BoardConstants.SEARCH_CACHE_MAX_PAGES
+                && keyword.length() <= BoardConstants.SEARCH_CACHE_MAX_KEYWORD_LENGTH;
+    }
+
+    /**
+     * @return 캐시 키 (세대 조회 실패 시 empty → 캐시 우회)
+     */
+    private Optional<String> buildKey(String keyword, PostCategory category, Gender gender, PostSearchSort sort,
+                                      Pageable pageable) {
+        String scope = category != null ? category.name() : ALL_CATEGORIES;
+        // 카테고리 지정 검색은 접근 검증을 통과한 사용자 모두 같은 결과
+        String audience = category != null ? PostCategory.VISIBILITY_ALL : gender.name();
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(SEARCH_GENERATION_KEY_PREFIX + scope);
+            return Optional.of(SEARCH_RESULT_KEY_PREFIX + scope
+                    + ":" + (generation != null ? generation : "0")
+                    + ":" + audience
+                    + ":" + sort.name()
+                    + ":" + pageable.getPageNumber()
+                    + ":" + pageable.getPageSize()
+                    + ":" + keyword);
+        } catch (Exception e) {
+            log.warn("검색 캐시 세대 조회 실패, 캐시 우회 - scope: {}", scope, e);
+            return Optional.empty();
+        }
+    }
+
+    private PostSearchDto.PageResponse await(CompletableFuture<PostSearchDto.PageResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
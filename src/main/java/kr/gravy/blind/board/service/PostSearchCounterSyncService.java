@@ -0,0 +1,159 @@
+package kr.gravy.blind.board.service;
+
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.entity.PostDocument;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCounterType;
+import kr.gravy.blind.board.model.PostCounts;
+import kr.gravy.blind.board.model.PostIndexOperation;
+import kr.gravy.blind.board.model.PostStatus;
+import kr.gravy.blind.board.repository.PostCounterJdbcRepository;
+import kr.gravy.blind.board.repository.PostRepository;
+import kr.gravy.blind.board.repository.PostSearchRepository;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.SEARCH_COUNTER_DIRTY_KEY;
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.SEARCH_COUNTER_SYNC_LOCK_KEY;
+
+/**
+ * 검색 Document 공감/댓글 수 동기화 (관련도순 가중치용)
+ * - 카운터 변경 커밋 후 게시글 publicId를 Redis Set에 기록 (같은 게시글의 반복 변경은 1건으로 합쳐짐)
+ * - 주기적으로 Set을 비우며 MySQL 현재 값(샤드 증감분 포함)으로 Document 전체를 외부 버전(조회 시각) 색인
+ *   (_update 부분 갱신은 내부 버전을 올려 외부 버전 쓰기와 충돌 → 사용하지 않음)
+ * - 실패한 게시글(배치 전체 실패 포함)은 Set에 되돌려 다음 주기에 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchCounterSyncService {
+
+    private final PostRepository postRepository;
+    private final PostCounterJdbcRepository postCounterJdbcRepository;
+    private final PostImageService postImageService;
+    private final PostSearchRepository postSearchRepository;
+    private final PostSearchIndexService postSearchIndexService;
+    private final RedisLockService redisLockService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 카운터 변경 게시글 기록 (트랜잭션 중이면 커밋 후 기록 → 동기화가 커밋 전 값을 읽지 않음)
+     *
+     * @param post 공감/댓글 수가 바뀐 게시글
+     */
+    public void markDirty(Post post) {
+        String publicId = post.getPublicId().toString();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addDirty(List.of(publicId));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addDirty(List.of(publicId));
+            }
+        });
+    }
+
+    /**
+     * 변경 게시글 카운터 반영 (분산 락으로 단일 인스턴스만 실행)
+     */
+    @Scheduled(fixedDelay = BoardConstants.SEARCH_COUNTER_SYNC_INTERVAL_MILLIS)
+    public void syncCounters() {
+        try {
+            redisLockService.executeWithLock(
+                    SEARCH_COUNTER_SYNC_LOCK_KEY,
+                    Duration.ofMillis(BoardConstants.SEARCH_COUNTER_SYNC_LOCK_TTL_MILLIS),
+                    () -> {
+                        List<String> publicIds;
+                        do {
+                            publicIds = stringRedisTemplate.opsForSet()
+                                    .pop(SEARCH_COUNTER_DIRTY_KEY, BoardConstants.SEARCH_COUNTER_SYNC_BATCH_SIZE);
+                            if (publicIds != null && !publicIds.isEmpty()) {
+                                syncBatchOrRestore(publicIds);
+                            }
+                        } while (publicIds != null && publicIds.size() == BoardConstants.SEARCH_COUNTER_SYNC_BATCH_SIZE);
+                    }
+            );
+        } catch (Exception e) {
+            log.error("검색 카운터 동기화 실패 - 미반영분은 다음 주기에 재처리", e);
+        }
+    }
+
+    /**
+     * SPOP으로 꺼낸 ID는 배치 전체 실패(OpenSearch/MySQL 장애) 시 Set에 되돌림 → 다음 주기 재시도
+     */
+    private void syncBatchOrRestore(List<String> publicIds) {
+        try {
+            syncBatch(publicIds);
+        } catch (RuntimeException e) {
+            addDirty(publicIds);
+            throw e;
+        }
+    }
+
+    private void syncBatch(List<String> publicIds) {
+        long readAt = System.currentTimeMillis();
+        List<Post> posts = postRepository.findAllByPublicIdIn(publicIds.stream().map(UUID::fromString).toList()).stream()
+                .filter(post -> !post.isDeleted())
+                .toList();
+        List<String> imageUrls = postImageService.getThumbnailUrls(posts);
+
+        List<PostIndexOperation> operations = new ArrayList<>(posts.size());
+        for (int index = 0; index < posts.size(); index++) {
+            Post post = posts.get(index);
+            PostCounts counts = currentCounts(post);
+            operations.add(PostIndexOperation.index(
+                    PostDocument.from(post, imageUrls.get(index), counts.likeCount(), counts.commentCount()),
+                    PostStatus.ACTIVE.indexVersionAt(readAt)));
+        }
+
+        List<String> failedIds = new ArrayList<>(postSearchRepository.bulk(
+                BoardConstants.SEARCH_WRITE_ALIAS, operations).failedIds());
+        postSearchIndexService.getRebuildTarget()
+                .ifPresent(target -> failedIds.addAll(postSearchRepository.bulk(target, operations).failedIds()));
+
+        if (!failedIds.isEmpty()) {
+            addDirty(failedIds);
+            log.warn("검색 카운터 반영 실패 - 다음 주기 재시도: {}건", failedIds.size());
+        }
+        log.debug("검색 카운터 반영 - 대상: {}건, 반영: {}건", publicIds.size(), operations.size());
+    }
+
+    /**
+     * 샤딩 모드 게시글은 미압축 샤드 증감분 합산 (샤딩 게시글은 소수)
+     */
+    private PostCounts currentCounts(Post post) {
+        PostCounts counts = PostCounts.of(post);
+        if (!post.getCounterSharded()) {
+            return counts;
+        }
+
+        Map<PostCounterType, Long> shardDeltas = postCounterJdbcRepository.sumShardDeltas(post.getId());
+        return counts.plusShardDeltas(
+                shardDeltas.getOrDefault(PostCounterType.LIKE, 0L),
+                shardDeltas.getOrDefault(PostCounterType.COMMENT, 0L)
+        );
+    }
+
+    private void addDirty(List<String> publicIds) {
+        try {
+            stringRedisTemplate.opsForSet().add(SEARCH_COUNTER_DIRTY_KEY, publicIds.toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("검색 카운터 변경 기록 실패 - 다음 변경 시 반영: {}", publicIds, e);
+        }
+    }
+}
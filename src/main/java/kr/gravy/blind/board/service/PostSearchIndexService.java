@@ -0,0 +1,206 @@
+package kr.gravy.blind.board.service;
+
+import kr.gravy.blind.board.exception.PostSearchException;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.repository.PostSearchIndexRepository;
+import kr.gravy.blind.configuration.properties.KafkaProperties;
+import kr.gravy.blind.infrastructure.kafka.KafkaConstants;
+import kr.gravy.blind.infrastructure.kafka.KafkaOffsetChecker;
+import kr.gravy.blind.infrastructure.redis.RedisConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 검색 인덱스 Blue/Green 관리
+ * - 검색은 읽기 별칭, 실시간 인덱싱은 쓰기 별칭 사용 (물리 인덱스 posts_v{n})
+ * - 재구축: 새 인덱스 생성 → Redis에 대상 등록(컨슈머 이중 기록) → 전체 재인덱싱
+ *   → 컨슈머가 재인덱싱 종료 시점의 Kafka 끝 오프셋을 따라잡으면 별칭 원자적 교체
+ * - 이전 인덱스는 롤백용으로 남겨 두고 수동 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexService {
+
+    private static final List<String> ALIASES = List.of(
+            BoardConstants.SEARCH_READ_ALIAS,
+            BoardConstants.SEARCH_WRITE_ALIAS
+    );
+    private static final String FIELD_VISIBILITY = "visibility";
+
+    private final PostSearchIndexRepository postSearchIndexRepository;
+    private final KafkaOffsetChecker kafkaOffsetChecker;
+    private final KafkaProperties kafkaProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostSearchCacheService postSearchCacheService;
+
+    private volatile boolean visibilityFilterable;
+
+    /**
+     * 기동 시 별칭 보장 (재인덱싱 기동 리스너보다 먼저 실행)
+     * - 별칭 도입 이전 인덱스(posts)가 있으면 임시로 연결 → 재구축으로 posts_v{n} 이전 (PostReindexService)
+     * - 없으면 posts_v1 생성
+     * - 쓰기 별칭 인덱스에 신규 필드 매핑 추가
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureAliases() {
+        try {
+            if (postSearchIndexRepository.existsAlias(BoardConstants.SEARCH_READ_ALIAS)) {
+                syncMappings();
+                refreshVisibilityFilterable();
+                return;
+            }
+
+            String index = postSearchIndexRepository.existsIndex(BoardConstants.SEARCH_LEGACY_INDEX)
+                    ? BoardConstants.SEARCH_LEGACY_INDEX
+                    : createNextIndex();
+            postSearchIndexRepository.moveAliases(ALIASES, index);
+            syncMappings();
+            refreshVisibilityFilterable();
+            log.info("검색 별칭 초기화 완료 - index: {}", index);
+
+        } catch (Exception e) {
+            log.error("검색 별칭 초기화 실패 - 검색/인덱싱이 실패할 수 있음", e);
+        }
+    }
+
+    /**
+     * 읽기 별칭이 별칭 도입 이전 인덱스(posts)를 가리키는지 여부
+     * - 레거시 Document는 내부 버전으로 색인됨 → 외부 버전 체계와 섞지 않고 새 인덱스로 재구축해 이전
+     */
+    public boolean requiresLegacyMigration() {
+        return postSearchIndexRepository.findIndicesByAlias(BoardConstants.SEARCH_READ_ALIAS)
+                .contains(BoardConstants.SEARCH_LEGACY_INDEX);
+    }
+
+    /**
+     * 쓰기 별칭 인덱스에 없는 필드 매핑만 추가 (동적 매핑으로 text 타입이 잡히기 전에 keyword 등 확정)
+     * - 기존 필드 변경(title.suggest 서브필드 등)은 보내지 않음 → 재구축으로만 반영
+     */
+    private void syncMappings() {
+        for (String index : postSearchIndexRepository.findIndicesByAlias(BoardConstants.SEARCH_WRITE_ALIAS)) {
+            try {
+                postSearchIndexRepository.putMissingMappings(index);
+            } catch (Exception e) {
+                log.warn("검색 인덱스 매핑 반영 실패, 재구축 필요 - index: {}", index, e);
+            }
+        }
+    }
+
+    /**
+     * 검색 시 visibility 필터 사용 가능 여부
+     * - 읽기 별칭 인덱스가 visibility를 keyword로 매핑한 경우만 true
+     * - false면 카테고리 필터로 대체 (visibility는 카테고리에서 파생 → 결과 동일, 재구축 후 true)
+     */
+    public boolean isVisibilityFilterable() {
+        return visibilityFilterable;
+    }
+
+    private void refreshVisibilityFilterable() {
+        try {
+            Set<String> indices = postSearchIndexRepository.findIndicesByAlias(BoardConstants.SEARCH_READ_ALIAS);
+            visibilityFilterable = !indices.isEmpty() && indices.stream()
+                    .allMatch(index -> postSearchIndexRepository.isKeywordField(index, FIELD_VISIBILITY));
+            if (!visibilityFilterable) {
+                log.warn("읽기 별칭 인덱스에 visibility keyword 매핑 없음 - 재구축 전까지 카테고리 필터 사용: {}", indices);
+            }
+        } catch (Exception e) {
+            visibilityFilterable = false;
+            log.warn("visibility 매핑 확인 실패 - 카테고리 필터 사용", e);
+        }
+    }
+
+    /**
+     * 진행 중인 재구축 대상 (이중 기록 대상)
+     */
+    public Optional<String> getRebuildTarget() {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(RedisConstants.SEARCH_REBUILD_TARGET_KEY));
+    }
+
+    /**
+     * 재구축 대상 준비
+     *
+     * @param resume true: 진행 중인 대상이 있으면 재사용
+     * @return 재구축 대상 물리 인덱스
+     */
+    public String prepareRebuildTarget(boolean resume) {
+        Optional<String> current = getRebuildTarget();
+        if (resume && current.isPresent()) {
+            log.info("검색 인덱스 재구축 재개 - target: {}", current.get());
+            return current.get();
+        }
+
+        String target = createNextIndex();
+        stringRedisTemplate.opsForValue().set(RedisConstants.SEARCH_REBUILD_TARGET_KEY, target);
+        log.info("검색 인덱스 재구축 시작 - target: {} (이중 기록 활성화)", target);
+        return target;
+    }
+
+    /**
+     * 컨슈머 따라잡기 대기 후 별칭 교체, 이중 기록 종료
+     *
+     * @param target 재인덱싱이 끝난 물리 인덱스
+     * @throws PostSearchException 제한 시간 내 따라잡지 못한 경우 (이중 기록 유지, 재개 가능)
+     */
+    public void completeRebuild(String target) {
+        Map<TopicPartition, Long> endOffsets = kafkaOffsetChecker.getEndOffsets(KafkaConstants.POST_INDEXING_TOPIC);
+        awaitConsumerCatchUp(endOffsets);
+
+        postSearchIndexRepository.moveAliases(ALIASES, target);
+        refreshVisibilityFilterable();
+        stringRedisTemplate.delete(RedisConstants.SEARCH_REBUILD_TARGET_KEY);
+        postSearchCacheService.bumpGenerations(EnumSet.allOf(PostCategory.class));
+        log.info("검색 인덱스 재구축 완료 - 별칭 교체: {}", target);
+    }
+
+    private void awaitConsumerCatchUp(Map<TopicPartition, Long> endOffsets) {
+        String groupId = kafkaProperties.consumer().groupId();
+        long deadline = System.currentTimeMillis()
+                + BoardConstants.SEARCH_REBUILD_CATCH_UP_TIMEOUT_MINUTES * 60_000L;
+
+        while (!kafkaOffsetChecker.hasConsumedUpTo(groupId, endOffsets)) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new PostSearchException("컨슈머 오프셋 따라잡기 시간 초과: 목표 오프셋=" + endOffsets);
+            }
+            log.debug("컨슈머 오프셋 따라잡기 대기 - groupId: {}", groupId);
+            sleep(BoardConstants.SEARCH_REBUILD_CATCH_UP_POLL_MILLIS);
+        }
+    }
+
+    private String createNextIndex() {
+        int nextVersion = postSearchIndexRepository.findIndicesByPrefix(BoardConstants.SEARCH_INDEX_PREFIX).stream()
+                .map(index -> index.substring(BoardConstants.SEARCH_INDEX_PREFIX.length()))
+                .filter(version -> version.matches("\\d+"))
+                .mapToInt(Integer::parseInt)
+                .max()
+                .orElse(0) + 1;
+
+        String index = BoardConstants.SEARCH_INDEX_PREFIX + nextVersion;
+        postSearchIndexRepository.createIndex(index);
+        return index;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PostSearchException("컨슈머 오프셋 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -3,26 +3,51 @@ package kr.gravy.blind.board.service;
 import kr.gravy.blind.board.dto.PostSearchDto;
 import kr.gravy.blind.board.entity.PostDocument;
 import kr.gravy.blind.board.exception.PostSearchException;
+import kr.gravy.blind.board.model.BoardConstants;
 import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostSearchCursor;
+import kr.gravy.blind.board.model.PostSearchSort;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.infrastructure.redis.RedisConstants;
+import kr.gravy.blind.user.entity.User;
+import kr.gravy.blind.user.model.Gender;
+import kr.gravy.blind.user.service.UserGenderCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.SortOrder;
-import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch._types.query_dsl.FieldValueFactorModifier;
+import org.opensearch.client.opensearch._types.query_dsl.FunctionBoostMode;
+import org.opensearch.client.opensearch._types.query_dsl.FunctionScoreMode;
 import org.opensearch.client.opensearch._types.query_dsl.MultiMatchQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.HighlighterEncoder;
 import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.TotalHits;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
+import org.opensearch.client.opensearch.core.search.TrackHits;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
+
+import static kr.gravy.blind.common.exception.Status.INVALID_CURSOR;
+import static kr.gravy.blind.common.exception.Status.SEARCH_PIT_LIMIT_EXCEEDED;
 
 @Slf4j
 @Service
@@ -30,13 +55,16 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PostSearchService {
 
-    private static final String INDEX_NAME = "posts";
+    private static final String INDEX_NAME = BoardConstants.SEARCH_READ_ALIAS;
 
     // 필드명
     private static final String FIELD_TITLE = "title";
     private static final String FIELD_CONTENT = "content";
     private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_VISIBILITY = "visibility";
     private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_IMAGE_URL = "imageUrl";
 
     // 검색 설정
     private static final double TITLE_BOOST_FACTOR = 3.0;
@@ -44,37 +72,90 @@ public class PostSearchService {
     private static final String FUZZINESS = "AUTO";
     private static final double TIE_BREAKER_SCORE = 0.3;
 
+    // 관련도순 설정 (작성 시각 gauss 감쇠 + 공감/댓글 수 log1p 가중치, BM25 점수에 곱함)
+    private static final String FIELD_LIKE_COUNT = "likeCount";
+    private static final String FIELD_COMMENT_COUNT = "commentCount";
+    private static final String RECENCY_ORIGIN = "now";
+    private static final String RECENCY_SCALE = "7d";
+    private static final String RECENCY_OFFSET = "1d";
+    private static final double RECENCY_DECAY = 0.5;
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 0.5;
+
+    // 응답 크기 축소: content 원문 대신 하이라이트 스니펫만 전송
+    private static final List<String> SOURCE_FIELDS = List.of(
+            FIELD_ID, FIELD_TITLE, FIELD_CATEGORY, FIELD_CREATED_AT, FIELD_IMAGE_URL, FIELD_LIKE_COUNT, FIELD_COMMENT_COUNT
+    );
+    private static final String HIGHLIGHT_PRE_TAG = "<em>";
+    private static final String HIGHLIGHT_POST_TAG = "</em>";
+    private static final int SNIPPET_LENGTH = 200;
+
+    // 커서 검색 설정
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final String PIT_KEEP_ALIVE = "1m";
+    private static final int TRACK_TOTAL_HITS_LIMIT = 1_000;
+
+    // 클러스터 PIT 상한(search.max_open_pit_context) 초과 응답 메시지
+    private static final String PIT_LIMIT_REASON = "too many point in time contexts";
+
+    // INCR + 첫 증가 시 EXPIRE 원자 실행 (EXPIRE 누락으로 카운터가 영구히 남지 않도록)
+    private static final RedisScript<Long> PIT_RATE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) "
+                    + "if count == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end "
+                    + "return count",
+            Long.class
+    );
+
     private final OpenSearchClient openSearchClient;
+    private final PostSearchCacheService postSearchCacheService;
+    private final UserGenderCacheService userGenderCacheService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final StringRedisTemplate stringRedisTemplate;
 
     /**
-     * 게시글 검색 (Multi-match + 카테고리 필터링)
+     * 게시글 검색 (Multi-match + 카테고리/성별 접근 필터링)
+     * - 키워드 정규화 후 검색 결과 캐시 조회, 미스 시 OpenSearch 검색
      *
      * @param keyword  검색 키워드 (title, content 대상)
-     * @param category 카테고리 필터 (선택적, null이면 전체 검색)
+     * @param category 카테고리 필터 (선택적, null이면 접근 가능한 전체 카테고리 검색)
+     * @param sort     정렬 방식 (최신순 / 관련도순)
      * @param pageable 페이징 정보
+     * @param user     검색 사용자 (성별 전용 카테고리 접근 제어)
      * @return 검색 결과 (페이징)
+     * @throws BlindException CATEGORY_ACCESS_DENIED, PROFILE_NOT_FOUND
      */
-    public PostSearchDto.PageResponse searchPosts(String keyword, PostCategory category, Pageable pageable) {
-        log.debug("게시글 검색 - keyword: {}, category: {}, page: {}, size: {}",
-                keyword, category, pageable.getPageNumber(), pageable.getPageSize());
+    public PostSearchDto.PageResponse searchPosts(String keyword, PostCategory category, PostSearchSort sort, Pageable pageable,
+                                                  User user) {
+        Gender gender = resolveGender(category, user);
+        String normalizedKeyword = PostSearchCacheService.normalizeKeyword(keyword);
+        return postSearchCacheService.getOrSearch(normalizedKeyword, category, gender, sort, pageable,
+                () -> search(normalizedKeyword, category, gender, sort, pageable));
+    }
 
-        try {
-            Query multiMatchQuery = buildMultiMatchQuery(keyword);
+    private PostSearchDto.PageResponse search(String keyword, PostCategory category, Gender gender, PostSearchSort sort,
+                                              Pageable pageable) {
+        log.debug("게시글 검색 - keyword: {}, category: {}, gender: {}, sort: {}, page: {}, size: {}",
+                keyword, category, gender, sort, pageable.getPageNumber(), pageable.getPageSize());
 
-            Query finalQuery = (category != null)
-                    ? buildBoolQueryWithCategoryFilter(multiMatchQuery, category)
-                    : multiMatchQuery;
+        try {
+            Query finalQuery = sort == PostSearchSort.RELEVANCE
+                    ? buildRelevanceQuery(buildQuery(keyword, category, gender))
+                    : buildQuery(keyword, category, gender);
 
-            SearchRequest searchRequest = SearchRequest.of(s -> s
-                    .index(INDEX_NAME)
-                    .query(finalQuery)
-                    .from((int) pageable.getOffset())
-                    .size(pageable.getPageSize())
-                    .sort(sort -> sort.field(f -> f.field(FIELD_CREATED_AT).order(SortOrder.Desc)))
-            );
+            SearchRequest searchRequest = SearchRequest.of(s -> {
+                s.index(INDEX_NAME)
+                        .query(finalQuery)
+                        .from((int) pageable.getOffset())
+                        .size(pageable.getPageSize());
+                applyProjection(s);
+                if (sort == PostSearchSort.RELEVANCE) {
+                    s.sort(so -> so.score(sc -> sc.order(SortOrder.Desc)));
+                }
+                return s.sort(so -> so.field(f -> f.field(FIELD_CREATED_AT).order(SortOrder.Desc)));
+            });
 
             SearchResponse<PostDocument> response = openSearchClient.search(searchRequest, PostDocument.class);
-            Page<PostDocument> page = convertToPage(response, pageable);
+            Page<PostSearchDto.PostResult> page = convertToPage(response, pageable);
 
             log.debug("게시글 검색 완료 - 결과: {}건", page.getTotalElements());
             return PostSearchDto.PageResponse.of(page);
@@ -85,6 +166,265 @@ public class PostSearchService {
         }
     }
 
+    /**
+     * 게시글 검색 (search_after 커서)
+     * - 정렬 (createdAt DESC, id DESC), 깊은 페이지도 비용 일정 (max_result_window 제한 없음)
+     * - pointInTime: 첫 페이지에서 PIT 생성 → 이후 페이지는 같은 스냅샷 조회 (신규 인덱싱 영향 없음)
+     * - PIT 생성은 사용자당 SEARCH_PIT_RATE_LIMIT회/분으로 제한 (방치된 PIT가 클러스터 상한을 채우지 않도록)
+     * - withTotal: 전체 개수 집계 (TRACK_TOTAL_HITS_LIMIT까지만, 미요청 시 집계 생략)
+     *
+     * @param keyword     검색 키워드
+     * @param category    카테고리 필터 (null이면 전체)
+     * @param cursor      이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기
+     * @param pointInTime 첫 페이지에서 PIT 사용 여부 (이후 페이지는 커서의 PIT를 따름)
+     * @param withTotal   전체 개수 포함 여부
+     * @param user        검색 사용자 (성별 전용 카테고리 접근 제어)
+     * @throws BlindException INVALID_CURSOR (커서 형식 오류, PIT 만료), SEARCH_PIT_LIMIT_EXCEEDED (PIT 생성 제한/클러스터 상한 초과),
+     *                        CATEGORY_ACCESS_DENIED, PROFILE_NOT_FOUND
+     */
+    public PostSearchDto.CursorResponse searchPostsByCursor(
+            String keyword,
+            PostCategory category,
+            String cursor,
+            int size,
+            boolean pointInTime,
+            boolean withTotal,
+            User user) {
+        Gender gender = resolveGender(category, user);
+        String normalizedKeyword = PostSearchCacheService.normalizeKeyword(keyword);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        PostSearchCursor searchCursor = (cursor == null || cursor.isBlank()) ? null : PostSearchCursor.decode(cursor);
+        String pitId = searchCursor != null ? searchCursor.pitId() : (pointInTime ? createPit(user.getId()) : null);
+
+        try {
+            Query finalQuery = buildQuery(normalizedKeyword, category, gender);
+
+            SearchRequest searchRequest = SearchRequest.of(s -> {
+                if (pitId != null) {
+                    s.pit(pit -> pit.id(pitId).keepAlive(PIT_KEEP_ALIVE));  // PIT 사용 시 index 지정 불가
+                } else {
+                    s.index(INDEX_NAME);
+                }
+                if (searchCursor != null) {
+                    s.searchAfter(searchCursor.toSearchAfter());
+                }
+                applyProjection(s);
+                return s
+                        .query(finalQuery)
+                        .size(pageSize + 1)  // 다음 페이지 존재 여부 확인용 1건 추가
+                        .sort(sort -> sort.field(f -> f.field(FIELD_CREATED_AT).order(SortOrder.Desc)))
+                        .sort(sort -> sort.field(f -> f.field(FIELD_ID).order(SortOrder.Desc)))
+                        .trackTotalHits(withTotal
+                                ? TrackHits.of(t -> t.count(TRACK_TOTAL_HITS_LIMIT))
+                                : TrackHits.of(t -> t.enabled(false)));
+            });
+
+            SearchResponse<PostDocument> response = openSearchClient.search(searchRequest, PostDocument.class);
+            return convertToCursorResponse(response, pageSize, pitId, withTotal);
+
+        } catch (OpenSearchException e) {
+            if (pitId != null && e.status() == HttpStatus.NOT_FOUND.value()) {
+                throw new BlindException(INVALID_CURSOR, e);  // PIT 만료
+            }
+            log.error("게시글 커서 검색 실패 - keyword: {}, category: {}", normalizedKeyword, category, e);
+            throw new PostSearchException("게시글 검색 실패", e);
+        } catch (IOException e) {
+            log.error("게시글 커서 검색 실패 - keyword: {}, category: {}", normalizedKeyword, category, e);
+            throw new PostSearchException("게시글 검색 실패", e);
+        }
+    }
+
+    private PostSearchDto.CursorResponse convertToCursorResponse(
+            SearchResponse<PostDocument> response,
+            int pageSize,
+            String pitId,
+            boolean withTotal) {
+        List<Hit<PostDocument>> hits = response.hits().hits();
+        boolean hasNext = hits.size() > pageSize;
+        List<Hit<PostDocument>> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        // PIT ID는 요청마다 갱신될 수 있으므로 응답 값 우선
+        String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+        String nextCursor = hasNext
+                ? PostSearchCursor.of(pageHits.get(pageHits.size() - 1).sort(), nextPitId).encode()
+                : null;
+        if (!hasNext && nextPitId != null) {
+            deletePit(nextPitId);
+        }
+
+        List<PostSearchDto.PostResult> posts = toResults(pageHits);
+
+        TotalHits total = response.hits().total();
+        Long totalHits = withTotal && total != null ? total.value() : null;
+        boolean totalHitsExact = total != null && total.relation() == TotalHitsRelation.Eq;
+
+        return PostSearchDto.CursorResponse.of(posts, nextCursor, hasNext, totalHits, totalHitsExact);
+    }
+
+    private String createPit(Long userId) {
+        acquirePitQuota(userId);
+        try {
+            return openSearchClient.createPit(p -> p
+                    .targetIndexes(INDEX_NAME)
+                    .keepAlive(Time.of(t -> t.time(PIT_KEEP_ALIVE)))
+            ).pitId();
+        } catch (OpenSearchException e) {
+            if (isPitLimitExceeded(e)) {
+                log.warn("검색 Point in Time 클러스터 상한 도달 - userId: {}", userId);
+                throw new BlindException(SEARCH_PIT_LIMIT_EXCEEDED, e);
+            }
+            throw new PostSearchException("검색 Point in Time 생성 실패", e);
+        } catch (IOException e) {
+            throw new PostSearchException("검색 Point in Time 생성 실패", e);
+        }
+    }
+
+    /**
+     * 사용자별 PIT 생성 횟수 제한 (고정 창, 창 길이 = PIT keep_alive)
+     */
+    private void acquirePitQuota(Long userId) {
+        Long count = stringRedisTemplate.execute(
+                PIT_RATE_SCRIPT,
+                List.of(RedisConstants.SEARCH_PIT_RATE_KEY_PREFIX + userId),
+                String.valueOf(BoardConstants.SEARCH_PIT_RATE_WINDOW_SECONDS));
+        if (count != null && count > BoardConstants.SEARCH_PIT_RATE_LIMIT) {
+            log.debug("검색 Point in Time 생성 제한 초과 - userId: {}, count: {}", userId, count);
+            throw new BlindException(SEARCH_PIT_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * search.max_open_pit_context 초과 ("Trying to create too many Point In Time contexts")
+     */
+    private boolean isPitLimitExceeded(OpenSearchException e) {
+        if (e.status() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return true;
+        }
+        String reason = e.error() != null ? e.error().reason() : null;
+        return reason != null && reason.toLowerCase(Locale.ROOT).contains(PIT_LIMIT_REASON);
+    }
+
+    /**
+     * 마지막 페이지 도달 시 PIT 즉시 해제 (실패해도 keep_alive 만료로 정리)
+     */
+    private void deletePit(String pitId) {
+        try {
+            openSearchClient.deletePit(p -> p.pitId(List.of(pitId)));
+        } catch (Exception e) {
+            log.warn("검색 Point in Time 해제 실패, 만료로 정리 - pitId: {}", pitId, e);
+        }
+    }
+
+    /**
+     * 요청당 1회 성별 조회 (로컬 캐시) + 지정 카테고리 접근 검증
+     */
+    private Gender resolveGender(PostCategory category, User user) {
+        Gender gender = userGenderCacheService.getGender(user.getId());
+        if (category != null) {
+            category.validateAccess(gender);
+        }
+        return gender;
+    }
+
+    /**
+     * 성별 접근 필터 (filter 컨텍스트 → 점수 계산 없음, 성별당 2가지 형태뿐이라 OpenSearch 필터 캐시 적중)
+     * - visibility ∈ {ALL, 사용자 성별}
+     * - visibility 필드가 없는 Document(필드 도입 전 색인)는 접근 가능한 카테고리로 판단
+     *
+     * @param visibilityFilterable 읽기 인덱스가 visibility를 keyword로 매핑했는지 (false면 카테고리 필터만 사용)
+     */
+    static Query buildAccessFilter(Gender gender, boolean visibilityFilterable) {
+        List<FieldValue> categories = PostCategory.accessibleTo(gender).stream()
+                .map(category -> FieldValue.of(category.name()))
+                .toList();
+        if (!visibilityFilterable) {
+            return Query.of(q -> q.terms(t -> t
+                    .field(FIELD_CATEGORY)
+                    .terms(tv -> tv.value(categories))
+            ));
+        }
+
+        List<FieldValue> visibilities = PostCategory.visibilitiesFor(gender).stream()
+                .map(FieldValue::of)
+                .toList();
+
+        return Query.of(q -> q
+                .bool(b -> b
+                        .should(s -> s.terms(t -> t
+                                .field(FIELD_VISIBILITY)
+                                .terms(tv -> tv.value(visibilities))
+                        ))
+                        .should(s -> s.bool(legacy -> legacy
+                                .mustNot(mn -> mn.exists(e -> e.field(FIELD_VISIBILITY)))
+                                .filter(f -> f.terms(t -> t
+                                        .field(FIELD_CATEGORY)
+                                        .terms(tv -> tv.value(categories))
+                                ))
+                        ))
+                        .minimumShouldMatch("1")
+                )
+        );
+    }
+
+    private Query buildQuery(String keyword, PostCategory category, Gender gender) {
+        Query multiMatchQuery = buildMultiMatchQuery(keyword);
+        return Query.of(q -> q
+                .bool(b -> {
+                    b.must(multiMatchQuery)
+                            .filter(buildAccessFilter(gender, postSearchIndexService.isVisibilityFilterable()));
+                    if (category != null) {
+                        b.filter(f -> f.term(t -> t
+                                .field(FIELD_CATEGORY)
+                                .value(FieldValue.of(category.name()))
+                        ));
+                    }
+                    return b;
+                })
+        );
+    }
+
+    /**
+     * 관련도순 점수: BM25 × (gauss(createdAt) + log1p(likeCount) + 0.5 × log1p(commentCount))
+     * - 카운터 필드가 없는 Document(부분 갱신 전)는 0으로 간주
+     */
+    private Query buildRelevanceQuery(Query baseQuery) {
+        return Query.of(q -> q
+                .functionScore(fs -> fs
+                        .query(baseQuery)
+                        .functions(f -> f
+                                .gauss(g -> g
+                                        .field(FIELD_CREATED_AT)
+                                        .placement(p -> p
+                                                .origin(JsonData.of(RECENCY_ORIGIN))
+                                                .scale(JsonData.of(RECENCY_SCALE))
+                                                .offset(JsonData.of(RECENCY_OFFSET))
+                                                .decay(RECENCY_DECAY)
+                                        )
+                                )
+                        )
+                        .functions(f -> f
+                                .weight(LIKE_WEIGHT)
+                                .fieldValueFactor(fv -> fv
+                                        .field(FIELD_LIKE_COUNT)
+                                        .modifier(FieldValueFactorModifier.Log1p)
+                                        .missing(0.0)
+                                )
+                        )
+                        .functions(f -> f
+                                .weight(COMMENT_WEIGHT)
+                                .fieldValueFactor(fv -> fv
+                                        .field(FIELD_COMMENT_COUNT)
+                                        .modifier(FieldValueFactorModifier.Log1p)
+                                        .missing(0.0)
+                                )
+                        )
+                        .scoreMode(FunctionScoreMode.Sum)
+                        .boostMode(FunctionBoostMode.Multiply)
+                )
+        );
+    }
+
     private Query buildMultiMatchQuery(String keyword) {
         return Query.of(q -> q
                 .multiMatch(MultiMatchQuery.of(m -> m
@@ -99,23 +439,36 @@ public class PostSearchService {
         );
     }
 
-    private Query buildBoolQueryWithCategoryFilter(Query multiMatchQuery, PostCategory category) {
-        return Query.of(q -> q
-                .bool(BoolQuery.of(b -> b
-                        .must(multiMatchQuery)
-                        .filter(f -> f.term(t -> t
-                                .field(FIELD_CATEGORY)
-                                .value(FieldValue.of(category.name()))
-                        ))
-                ))
-        );
+    /**
+     * 응답 필드 축소
+     * - _source: content 제외 (본문 전체 전송/역직렬화 생략)
+     * - highlight: 검색 필드와 같은 nori_analyzer로 분석된 조각, HTML 이스케이프 후 {@code <em>} 강조
+     * - content는 일치 조각 1개, 일치가 없으면 앞부분(no_match_size)을 스니펫으로 사용
+     */
+    private void applyProjection(SearchRequest.Builder builder) {
+        builder.source(src -> src.filter(f -> f.includes(SOURCE_FIELDS)))
+                .highlight(h -> h
+                        .preTags(HIGHLIGHT_PRE_TAG)
+                        .postTags(HIGHLIGHT_POST_TAG)
+                        .encoder(HighlighterEncoder.Html)
+                        .fields(FIELD_TITLE, f -> f.numberOfFragments(0))  // 제목 전체
+                        .fields(FIELD_CONTENT, f -> f
+                                .fragmentSize(SNIPPET_LENGTH)
+                                .numberOfFragments(1)
+                                .noMatchSize(SNIPPET_LENGTH)
+                        )
+                );
     }
 
-    private Page<PostDocument> convertToPage(SearchResponse<PostDocument> response, Pageable pageable) {
-        List<PostDocument> content = response.hits().hits().stream()
-                .map(Hit::source)
-                .filter(doc -> doc != null)
+    private List<PostSearchDto.PostResult> toResults(List<Hit<PostDocument>> hits) {
+        return hits.stream()
+                .filter(hit -> hit.source() != null)
+                .map(hit -> PostSearchDto.PostResult.from(hit.source(), hit.highlight()))
                 .toList();
+    }
+
+    private Page<PostSearchDto.PostResult> convertToPage(SearchResponse<PostDocument> response, Pageable pageable) {
+        List<PostSearchDto.PostResult> content = toResults(response.hits().hits());
 
         long totalHits = response.hits().total() != null
                 ? response.hits().total().value()
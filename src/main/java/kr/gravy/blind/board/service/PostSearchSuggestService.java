@@ -0,0 +1,139 @@
+package kr.gravy.blind.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.gravy.blind.board.dto.PostSearchDto;
+import kr.gravy.blind.board.entity.PostDocument;
+import kr.gravy.blind.board.exception.PostSearchException;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.user.entity.User;
+import kr.gravy.blind.user.model.Gender;
+import kr.gravy.blind.user.service.UserGenderCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch._types.query_dsl.TextQueryType;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 검색어 자동완성 (search_as_you_type)
+ * - title.suggest 서브필드(+ _2gram/_3gram 싱글)에 bool_prefix 질의
+ * - _source는 제목만 조회, 전체 개수 집계 생략
+ * - 성별 전용 카테고리는 접근 가능한 사용자에게만 노출 (검색과 같은 접근 필터)
+ * - 정규화 접두어 단위 로컬 캐시: 같은 접두어의 동시 요청은 Caffeine이 하나의 로딩으로 합침
+ */
+@Slf4j
+@Service
+public class PostSearchSuggestService {
+
+    private static final String INDEX_NAME = BoardConstants.SEARCH_READ_ALIAS;
+
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_SUGGEST = "title.suggest";
+    private static final String FIELD_SUGGEST_2GRAM = "title.suggest._2gram";
+    private static final String FIELD_SUGGEST_3GRAM = "title.suggest._3gram";
+
+    private static final int MAX_SUGGEST_SIZE = 10;
+
+    private final OpenSearchClient openSearchClient;
+    private final UserGenderCacheService userGenderCacheService;
+    private final PostSearchIndexService postSearchIndexService;
+
+    private final Cache<String, PostSearchDto.SuggestResponse> suggestCache;
+
+    public PostSearchSuggestService(OpenSearchClient openSearchClient, UserGenderCacheService userGenderCacheService,
+                                    PostSearchIndexService postSearchIndexService, MeterRegistry meterRegistry) {
+        this.openSearchClient = openSearchClient;
+        this.userGenderCacheService = userGenderCacheService;
+        this.postSearchIndexService = postSearchIndexService;
+
+        this.suggestCache = Caffeine.newBuilder()
+                .maximumSize(BoardConstants.SEARCH_SUGGEST_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(BoardConstants.SEARCH_SUGGEST_CACHE_TTL_SECONDS))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, suggestCache, "postSearchSuggestCache");
+    }
+
+    /**
+     * @param prefix   입력 중인 검색어
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param size     최대 결과 수
+     * @param user     요청 사용자 (성별 전용 카테고리 접근 제어)
+     * @return 자동완성 결과 (접두어가 너무 짧으면 빈 결과)
+     * @throws BlindException CATEGORY_ACCESS_DENIED, PROFILE_NOT_FOUND
+     */
+    public PostSearchDto.SuggestResponse suggest(String prefix, PostCategory category, int size, User user) {
+        Gender gender = userGenderCacheService.getGender(user.getId());
+        if (category != null) {
+            category.validateAccess(gender);
+        }
+
+        String normalizedPrefix = PostSearchCacheService.normalizeKeyword(prefix);
+        if (normalizedPrefix.length() < BoardConstants.SEARCH_SUGGEST_MIN_PREFIX_LENGTH) {
+            return PostSearchDto.SuggestResponse.empty();
+        }
+        if (normalizedPrefix.length() > BoardConstants.SEARCH_SUGGEST_MAX_PREFIX_LENGTH) {
+            normalizedPrefix = normalizedPrefix.substring(0, BoardConstants.SEARCH_SUGGEST_MAX_PREFIX_LENGTH);
+        }
+
+        int suggestSize = Math.min(Math.max(size, 1), MAX_SUGGEST_SIZE);
+        String query = normalizedPrefix;
+        String scope = category != null ? category.name() : gender.name();
+        String cacheKey = scope + ":" + suggestSize + ":" + query;
+        return suggestCache.get(cacheKey, key -> search(query, category, gender, suggestSize));
+    }
+
+    private PostSearchDto.SuggestResponse search(String prefix, PostCategory category, Gender gender, int size) {
+        try {
+            Query prefixQuery = Query.of(q -> q
+                    .multiMatch(m -> m
+                            .query(prefix)
+                            .type(TextQueryType.BoolPrefix)
+                            .fields(FIELD_SUGGEST, FIELD_SUGGEST_2GRAM, FIELD_SUGGEST_3GRAM)
+                    )
+            );
+
+            Query finalQuery = Query.of(q -> q.bool(b -> {
+                b.must(prefixQuery)
+                        .filter(PostSearchService.buildAccessFilter(gender, postSearchIndexService.isVisibilityFilterable()));
+                if (category != null) {
+                    b.filter(f -> f.term(t -> t.field(FIELD_CATEGORY).value(FieldValue.of(category.name()))));
+                }
+                return b;
+            }));
+
+            SearchResponse<PostDocument> response = openSearchClient.search(s -> s
+                            .index(INDEX_NAME)
+                            .query(finalQuery)
+                            .size(size)
+                            .source(src -> src.filter(f -> f.includes(FIELD_TITLE)))
+                            .trackTotalHits(t -> t.enabled(false)),
+                    PostDocument.class
+            );
+
+            List<PostSearchDto.Suggestion> suggestions = response.hits().hits().stream()
+                    .filter(hit -> hit.source() != null)
+                    .map(hit -> PostSearchDto.Suggestion.from(hit.id(), hit.source()))
+                    .toList();
+
+            log.debug("검색어 자동완성 - prefix: {}, category: {}, 결과: {}건", prefix, category, suggestions.size());
+            return PostSearchDto.SuggestResponse.of(suggestions);
+
+        } catch (IOException e) {
+            log.error("검색어 자동완성 실패 - prefix: {}, category: {}", prefix, category, e);
+            throw new PostSearchException("검색어 자동완성 실패", e);
+        }
+    }
+}
@@ -5,12 +5,14 @@ import kr.gravy.blind.board.dto.GetDetailPostDto;
 import kr.gravy.blind.board.dto.GetListPostDto;
 import kr.gravy.blind.board.dto.TogglePostLikeDto;
 import kr.gravy.blind.board.entity.Post;
-import kr.gravy.blind.board.entity.PostLike;
 import kr.gravy.blind.board.event.PostCreatedEvent;
 import kr.gravy.blind.board.event.PostDeletedEvent;
+import kr.gravy.blind.board.model.HotPostActivity;
 import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostCounterState;
+import kr.gravy.blind.board.model.PostDetailSnapshot;
+import kr.gravy.blind.board.model.PostFeedCursor;
 import kr.gravy.blind.board.model.PostStatus;
-import kr.gravy.blind.board.repository.PostImageRepository;
 import kr.gravy.blind.board.repository.PostLikeRepository;
 import kr.gravy.blind.board.repository.PostRepository;
 import kr.gravy.blind.common.exception.BlindException;
@@ -20,13 +22,20 @@ import kr.gravy.blind.user.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static kr.gravy.blind.common.exception.Status.*;
 
@@ -35,12 +44,19 @@ import static kr.gravy.blind.common.exception.Status.*;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final PostRepository postRepository;
-    private final PostImageRepository postImageRepository;
     private final PostLikeRepository postLikeRepository;
     private final UserProfileRepository userProfileRepository;
     private final PostImageService postImageService;
+    private final PostViewCountService postViewCountService;
+    private final PostCounterService postCounterService;
+    private final HotPostService hotPostService;
+    private final PostFeedCacheService postFeedCacheService;
+    private final PostDetailCacheService postDetailCacheService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final PostIndexingOutboxService postIndexingOutboxService;
 
     /**
      * @param user    현재 로그인한 사용자
@@ -72,6 +88,7 @@ public class PostService {
             );
         }
 
+        postIndexingOutboxService.appendIndex(post, presignedUrlInfo != null ? presignedUrlInfo.s3Key() : null);
         applicationEventPublisher.publishEvent(PostCreatedEvent.of(post));
 
         return presignedUrlInfo != null
@@ -79,27 +96,30 @@ public class PostService {
                 : Optional.empty();
     }
 
-    @Transactional
+    /**
+     * 게시글 상세 조회
+     * - 불변 필드는 2단 캐시(PostDetailCacheService)에서 조회
+     * - 카운터/인기글 여부는 가변 컬럼 PK 조회, 공감 여부는 사용자별 조회로 합성
+     * - 조회수는 Redis에 누적 후 주기적으로 MySQL 반영 (PostViewCountService)
+     */
     public GetDetailPostDto.Response getDetailPost(UUID publicId, User user) {
-        Post post = postRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
-
-        Long postId = post.getId();
+        PostDetailSnapshot post = postDetailCacheService.get(publicId);
+        Long postId = post.id();
 
-        postRepository.incrementViewCount(postId);
-
-        // 재조회 (최신 viewCount 반영)
-        post = postRepository.findById(postId)
-                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
+        long pendingViews = postViewCountService.increment(postId);
+        hotPostService.recordActivity(post, HotPostActivity.VIEW, 1);
 
+        PostCounterState counterState = postCounterService.getCounterState(postId);
         boolean isLiked = postLikeRepository.existsByUserIdAndPostId(user.getId(), postId);
-        boolean isAuthor = post.getUserId().equals(user.getId());
-
-        String imageUrl = postImageRepository.findByPostId(post.getId())
-                .map(image -> postImageService.getCdnImageUrl(image.getS3Key(), kr.gravy.blind.common.type.ImageSize.MEDIUM))
-                .orElse(null);
-
-        return GetDetailPostDto.Response.of(post, isLiked, isAuthor, imageUrl);
+        boolean isAuthor = post.userId().equals(user.getId());
+
+        return GetDetailPostDto.Response.of(
+                post,
+                counterState.counts().plusViews(pendingViews),
+                counterState.isHot(),
+                isLiked,
+                isAuthor
+        );
     }
 
     /**
@@ -125,34 +145,90 @@ public class PostService {
 
         category.validateAccess(userProfile.getGender());
 
-        Page<Post> postPage = postRepository.findByCategoryAndStatusWithImages(
+        GetListPostDto.PageResponse response = postFeedCacheService.isCacheable(pageable)
+                ? postFeedCacheService.getFirstPage(category, () -> loadPostsByCategory(category, pageable))
+                : loadPostsByCategory(category, pageable);
+
+        return response.withLikedPostIds(findLikedPublicIds(user, response.content()));
+    }
+
+    private GetListPostDto.PageResponse loadPostsByCategory(PostCategory category, Pageable pageable) {
+        Page<Long> postIdPage = postRepository.findIdsByCategoryAndStatus(
                 category,
                 List.of(PostStatus.ACTIVE, PostStatus.DELETED),
                 pageable
         );
 
-        List<String> imageUrlList = postPage.getContent().stream()
-                .map(post -> post.getFirstImage()
-                        .map(image -> postImageService.getCdnImageUrl(image.getS3Key(), kr.gravy.blind.common.type.ImageSize.THUMBNAIL))
-                        .orElse(null))
-                .toList();
+        return toPageResponse(postIdPage);
+    }
+
+    /**
+     * 카테고리별 게시글 피드 (커서 기반)
+     * - OFFSET/COUNT 없이 idx_anonymous_posts_category_pinned 인덱스 Seek
+     * - size + 1건 조회로 다음 페이지 존재 여부 판단
+     *
+     * @param category 카테고리
+     * @param user     현재 로그인한 사용자
+     * @param cursor   이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기
+     * @return 게시글 목록 + nextCursor/hasNext
+     */
+    public GetListPostDto.CursorResponse getPostFeedByCategory(PostCategory category, User user, String cursor, int size) {
+        UserProfile userProfile = userProfileRepository.findByUserId(user.getId())
+                .orElseThrow(() -> new BlindException(PROFILE_NOT_FOUND));
+
+        category.validateAccess(userProfile.getGender());
+
+        GetListPostDto.CursorResponse response = postFeedCacheService.isCacheable(cursor, size)
+                ? postFeedCacheService.getFirstCursorPage(category, () -> loadPostFeedByCategory(category, null, size))
+                : loadPostFeedByCategory(category, cursor, size);
 
-        return GetListPostDto.PageResponse.of(postPage, imageUrlList);
+        return response.withLikedPostIds(findLikedPublicIds(user, response.content()));
     }
 
-    public GetListPostDto.PageResponse getHotPosts(Pageable pageable) {
-        Page<Post> postPage = postRepository.findByIsHotTrueAndStatusWithImages(
-                List.of(PostStatus.ACTIVE, PostStatus.DELETED),
-                pageable
-        );
+    private GetListPostDto.CursorResponse loadPostFeedByCategory(PostCategory category, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostStatus> statuses = List.of(PostStatus.ACTIVE, PostStatus.DELETED);
 
-        List<String> imageUrlList = postPage.getContent().stream()
-                .map(post -> post.getFirstImage()  // Post 엔티티의 헬퍼 메서드 사용
-                        .map(image -> postImageService.getCdnImageUrl(image.getS3Key(), kr.gravy.blind.common.type.ImageSize.THUMBNAIL))
-                        .orElse(null))
-                .toList();
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFeedFirstSlice(category, statuses, limit);
+        } else {
+            PostFeedCursor feedCursor = PostFeedCursor.decode(cursor);
+            posts = postRepository.findFeedSliceAfter(
+                    category,
+                    statuses,
+                    feedCursor.isPinned(),
+                    feedCursor.createdAt(),
+                    feedCursor.id(),
+                    limit
+            );
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> content = hasNext ? posts.subList(0, pageSize) : posts;
+        String nextCursor = hasNext
+                ? PostFeedCursor.from(content.get(content.size() - 1)).encode()
+                : null;
 
-        return GetListPostDto.PageResponse.of(postPage, imageUrlList);
+        return GetListPostDto.CursorResponse.of(content, postImageService.getThumbnailUrls(content), nextCursor, hasNext);
+    }
+
+    /**
+     * 인기글 목록 조회
+     * - 점수순 스냅샷(HotPostService)이 있으면 MySQL 조회 없이 응답
+     * - 스냅샷이 없으면 is_hot 인덱스로 최신순 조회
+     */
+    public GetListPostDto.PageResponse getHotPosts(User user, Pageable pageable) {
+        GetListPostDto.PageResponse response = hotPostService.getHotPostSnapshot()
+                .map(snapshot -> toSnapshotPageResponse(snapshot, pageable))
+                .orElseGet(() -> toPageResponse(postRepository.findIdsByIsHotTrueAndStatus(
+                        List.of(PostStatus.ACTIVE, PostStatus.DELETED),
+                        pageable
+                )));
+
+        return response.withLikedPostIds(findLikedPublicIds(user, response.content()));
     }
 
     /**
@@ -172,12 +248,19 @@ public class PostService {
         }
 
         post.delete();
+        postIndexingOutboxService.appendDelete(post);
 
         applicationEventPublisher.publishEvent(
                 PostDeletedEvent.of(post.getPublicId(), post.getCategory())
         );
     }
 
+    /**
+     * 게시글 공감 토글
+     * - uq_anonymous_post_likes_user_post 기반: INSERT IGNORE 영향 행 수로 공감/취소 판별 (exists 조회 제거)
+     * - 공감 수는 UPDATE 결과(LAST_INSERT_ID)로 반환 (재조회 제거)
+     * - 공감: INSERT + UPDATE, 취소: INSERT(무시) + DELETE + UPDATE
+     */
     @Transactional
     public TogglePostLikeDto.LikeToggleResponse toggleLike(UUID publicId, User user) {
         Post post = postRepository.findByPublicId(publicId)
@@ -188,21 +271,21 @@ public class PostService {
         }
 
         Long postId = post.getId();
-        boolean exists = postLikeRepository.existsByUserIdAndPostId(user.getId(), postId);
 
-        if (exists) {
-            postLikeRepository.deleteByUserIdAndPostId(user.getId(), postId);
-            postRepository.decrementLikeCount(postId);
-        } else {
-            PostLike like = PostLike.create(user.getId(), postId);
-            postLikeRepository.save(like);
-            postRepository.incrementLikeCount(postId);
+        if (postLikeRepository.insertIgnore(user.getId(), postId) == 1) {
+            int likeCount = postCounterService.addLikeCount(post, 1);
+            hotPostService.recordActivity(post, HotPostActivity.LIKE, 1);
+            return TogglePostLikeDto.LikeToggleResponse.of(true, likeCount);
         }
 
-        post = postRepository.findById(postId)
-                .orElseThrow(() -> new BlindException(POST_NOT_FOUND));
+        if (postLikeRepository.deleteByUserIdAndPostId(user.getId(), postId) == 1) {
+            int likeCount = postCounterService.addLikeCount(post, -1);
+            hotPostService.recordActivity(post, HotPostActivity.LIKE, -1);
+            return TogglePostLikeDto.LikeToggleResponse.of(false, likeCount);
+        }
 
-        return TogglePostLikeDto.LikeToggleResponse.of(!exists, post.getLikeCount());
+        // 동시 요청이 먼저 공감을 취소한 경우: 카운터는 해당 요청이 이미 반영
+        return TogglePostLikeDto.LikeToggleResponse.of(false, postCounterService.getCounts(post).likeCount());
     }
 
     /**
@@ -211,18 +294,65 @@ public class PostService {
      * @return 페이징된 게시글 목록
      */
     public GetListPostDto.PageResponse getMyPosts(User user, Pageable pageable) {
-        Page<Post> postPage = postRepository.findByUserIdWithImages(
+        Page<Long> postIdPage = postRepository.findIdsByUserIdAndStatus(
                 user.getId(),
                 List.of(PostStatus.ACTIVE, PostStatus.DELETED),
                 pageable
         );
 
-        List<String> imageUrlList = postPage.getContent().stream()
-                .map(post -> post.getFirstImage()  // Post 엔티티의 헬퍼 메서드 사용
-                        .map(image -> postImageService.getCdnImageUrl(image.getS3Key(), kr.gravy.blind.common.type.ImageSize.THUMBNAIL))
-                        .orElse(null))
-                .toList();
+        GetListPostDto.PageResponse response = toPageResponse(postIdPage);
+        return response.withLikedPostIds(findLikedPublicIds(user, response.content()));
+    }
+
+    /**
+     * 목록 공감 여부 일괄 조회 (페이지당 쿼리 1회)
+     *
+     * @param user  현재 로그인한 사용자
+     * @param items 목록 항목
+     * @return 사용자가 공감한 게시글 Public ID
+     */
+    private Set<UUID> findLikedPublicIds(User user, List<GetListPostDto.ListResponse> items) {
+        if (items.isEmpty()) {
+            return Set.of();
+        }
 
-        return GetListPostDto.PageResponse.of(postPage, imageUrlList);
+        List<UUID> publicIds = items.stream().map(GetListPostDto.ListResponse::publicId).toList();
+        return postLikeRepository.findLikedPostPublicIds(user.getId(), publicIds);
+    }
+
+    /**
+     * ID 페이지 → 목록 응답 변환 (2단계 조회)
+     * 1. ID 페이지는 SQL에서 LIMIT/OFFSET 적용 (호출 측)
+     * 2. 게시글 본문 PK IN 조회 + 첫 번째 이미지 IN 조회
+     */
+    private GetListPostDto.PageResponse toPageResponse(Page<Long> postIdPage) {
+        List<Post> posts = findAllInOrder(postIdPage.getContent());
+        Page<Post> postPage = new PageImpl<>(posts, postIdPage.getPageable(), postIdPage.getTotalElements());
+
+        return GetListPostDto.PageResponse.of(postPage, postImageService.getThumbnailUrls(posts));
+    }
+
+    private GetListPostDto.PageResponse toSnapshotPageResponse(List<GetListPostDto.ListResponse> snapshot, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), snapshot.size());
+        int to = Math.min(from + pageable.getPageSize(), snapshot.size());
+
+        return GetListPostDto.PageResponse.from(new PageImpl<>(snapshot.subList(from, to), pageable, snapshot.size()));
+    }
+
+    /**
+     * findAllById는 순서를 보장하지 않으므로 ID 페이지 순서로 재정렬
+     */
+    private List<Post> findAllInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postById = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
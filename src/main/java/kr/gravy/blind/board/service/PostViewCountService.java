@@ -0,0 +1,144 @@
+package kr.gravy.blind.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.gravy.blind.board.model.BoardConstants;
+import kr.gravy.blind.board.repository.PostCounterJdbcRepository;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static kr.gravy.blind.infrastructure.redis.RedisConstants.*;
+
+/**
+ * 게시글 조회수 Write-Behind 카운터
+ * - 조회 시 MySQL 행 잠금 UPDATE 대신 Redis Hash에 HINCRBY
+ * - 주기적으로 누적분을 RENAME 스냅샷 → MySQL 일괄 UPDATE → 스냅샷 삭제
+ * - 반영 도중 장애 시 스냅샷(flushing 키)이 남아 다음 플러시에서 재처리 (at-least-once)
+ */
+@Slf4j
+@Service
+public class PostViewCountService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostCounterJdbcRepository postCounterJdbcRepository;
+    private final RedisLockService redisLockService;
+
+    private final Timer flushTimer;
+    private final Counter flushedViewCounter;
+    private final AtomicLong lastFlushedAtMillis = new AtomicLong(System.currentTimeMillis());
+
+    public PostViewCountService(
+            StringRedisTemplate stringRedisTemplate,
+            PostCounterJdbcRepository postCounterJdbcRepository,
+            RedisLockService redisLockService,
+            MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postCounterJdbcRepository = postCounterJdbcRepository;
+        this.redisLockService = redisLockService;
+
+        this.flushTimer = Timer.builder("blind.post.view.flush")
+                .description("조회수 MySQL 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushedViewCounter = Counter.builder("blind.post.view.flushed")
+                .description("MySQL에 반영된 조회수 합계")
+                .register(meterRegistry);
+        Gauge.builder("blind.post.view.flush.lag", lastFlushedAtMillis,
+                        lastFlushed -> (System.currentTimeMillis() - lastFlushed.get()) / 1000.0)
+                .description("마지막 조회수 플러시 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가
+     * - HINCRBY(pending) + HGET(flushing)을 파이프라인으로 1회 왕복
+     *
+     * @param postId 게시글 ID
+     * @return MySQL에 아직 반영되지 않은 조회수 (이번 조회 포함)
+     */
+    public long increment(Long postId) {
+        String field = postId.toString();
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hIncrBy(POST_VIEW_PENDING_KEY, field, 1);
+            stringConnection.hGet(POST_VIEW_FLUSHING_KEY, field);
+            return null;
+        });
+
+        long pending = results.get(0) != null ? (Long) results.get(0) : 0L;
+        long flushing = results.get(1) != null ? Long.parseLong((String) results.get(1)) : 0L;
+        return pending + flushing;
+    }
+
+    /**
+     * 조회수 증가분 MySQL 반영 (분산 락으로 단일 인스턴스만 실행)
+     */
+    @Scheduled(fixedDelay = BoardConstants.VIEW_COUNT_FLUSH_INTERVAL_MILLIS)
+    public void flushPendingViews() {
+        try {
+            redisLockService.executeWithLock(
+                    POST_VIEW_FLUSH_LOCK_KEY,
+                    Duration.ofMillis(BoardConstants.VIEW_COUNT_FLUSH_LOCK_TTL_MILLIS),
+                    () -> flushTimer.record(this::flush)
+            );
+            refreshLastFlushedAt();
+        } catch (Exception e) {
+            log.error("조회수 플러시 실패 - 미반영분은 다음 주기에 재처리", e);
+        }
+    }
+
+    private void flush() {
+        // 이전 플러시가 중단되어 남은 스냅샷이 있으면 새 스냅샷을 만들지 않고 우선 처리
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(POST_VIEW_FLUSHING_KEY))) {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(POST_VIEW_PENDING_KEY))) {
+                markFlushed();
+                return;
+            }
+            // RENAME은 원자적: 이후 HINCRBY는 새 pending 키에 누적
+            stringRedisTemplate.rename(POST_VIEW_PENDING_KEY, POST_VIEW_FLUSHING_KEY);
+        }
+
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(POST_VIEW_FLUSHING_KEY);
+        Map<Long, Long> deltasByPostId = new HashMap<>();
+        entries.forEach((postId, delta) ->
+                deltasByPostId.put(Long.parseLong((String) postId), Long.parseLong((String) delta)));
+
+        postCounterJdbcRepository.addViewCounts(deltasByPostId);
+        stringRedisTemplate.delete(POST_VIEW_FLUSHING_KEY);
+
+        long flushedViews = deltasByPostId.values().stream().mapToLong(Long::longValue).sum();
+        flushedViewCounter.increment(flushedViews);
+        markFlushed();
+
+        log.debug("조회수 플러시 완료 - 게시글 수: {}, 조회수 합계: {}", deltasByPostId.size(), flushedViews);
+    }
+
+    private void markFlushed() {
+        stringRedisTemplate.opsForValue().set(POST_VIEW_LAST_FLUSHED_AT_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 락을 획득하지 못한 인스턴스도 플러시 지연을 측정할 수 있도록 Redis에서 마지막 완료 시각 동기화
+     */
+    private void refreshLastFlushedAt() {
+        String lastFlushedAt = stringRedisTemplate.opsForValue().get(POST_VIEW_LAST_FLUSHED_AT_KEY);
+        if (lastFlushedAt != null) {
+            lastFlushedAtMillis.set(Long.parseLong(lastFlushedAt));
+        }
+    }
+}
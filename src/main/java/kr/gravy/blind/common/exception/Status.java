@@ -51,6 +51,7 @@ public enum Status {
 
     // === 검증 관련 ===
     VALIDATION_FAILED(400, "valid001", "입력값 검증에 실패했습니다"),
+    INVALID_CURSOR(400, "valid002", "유효하지 않은 커서입니다"),
 
     // === 커뮤니티 관련 ===
     COMMUNITY_ACCESS_DENIED(403, "community001", "커뮤니티 기능은 승인된 사용자만 이용할 수 있습니다"),
@@ -60,6 +61,7 @@ public enum Status {
     POST_ALREADY_DELETED(400, "post002", "이미 삭제된 게시글입니다"),
     POST_AUTHOR_MISMATCH(403, "post003", "작성자만 삭제할 수 있습니다"),
     CATEGORY_ACCESS_DENIED(403, "post004", "해당 카테고리에 접근할 수 없습니다"),
+    SEARCH_PIT_LIMIT_EXCEEDED(429, "post005", "검색 요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
 
     // === 댓글 관련 ===
     COMMENT_NOT_FOUND(404, "comment001", "댓글을 찾을 수 없습니다"),
@@ -0,0 +1,54 @@
+package kr.gravy.blind.common.utils;
+
+import kr.gravy.blind.common.exception.BlindException;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+import static kr.gravy.blind.common.exception.Status.INVALID_CURSOR;
+
+/**
+ * 커서 기반 페이징용 Opaque 커서 인코딩/디코딩
+ * - 정렬 키 값들을 구분자로 연결한 뒤 URL-safe Base64로 인코딩
+ * - 클라이언트는 커서 내부 구조를 알 필요 없이 그대로 되돌려 보냄
+ */
+@UtilityClass
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile(Pattern.quote(DELIMITER));
+
+    public static String encode(Object... values) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                joined.append(DELIMITER);
+            }
+            joined.append(values[i]);
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor        인코딩된 커서
+     * @param expectedParts 기대하는 값 개수
+     * @return 디코딩된 값 배열
+     * @throws BlindException INVALID_CURSOR
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = DELIMITER_PATTERN.split(decoded, -1);
+            if (parts.length != expectedParts) {
+                throw new BlindException(INVALID_CURSOR);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BlindException(INVALID_CURSOR, e);
+        }
+    }
+}
@@ -2,16 +2,22 @@ package kr.gravy.blind.configuration.properties;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Validated
 @ConfigurationProperties(prefix = "spring.kafka")
 public record KafkaProperties(
         @NotBlank String bootstrapServers,
         @Valid Consumer consumer,
-        @Valid Topic topic
+        @Valid Topic topic,
+        @Valid @DefaultValue Producer producer
 ) {
     public record Consumer(@NotBlank String groupId) {
     }
@@ -19,4 +25,22 @@ public record KafkaProperties(
 
     public record Topic(@Positive int partitions, @Positive int replicas) {
     }
+
+    /**
+     * 프로듀서 배치/압축 설정 (미설정 시 기본값)
+     *
+     * @param linger          배치를 채우기 위해 전송을 미루는 최대 시간 (Outbox 릴레이가 한 번에 몰아 보내므로 짧게)
+     * @param batchSize       파티션별 배치 최대 크기 (바이트)
+     * @param compressionType 배치 압축 방식 (none, gzip, snappy, lz4, zstd)
+     * @param bufferMemory    전송 대기 레코드 버퍼 크기 (바이트, 가득 차면 maxBlock까지 send 대기)
+     * @param maxBlock        버퍼/메타데이터 대기 최대 시간 (초과 시 send 실패)
+     */
+    public record Producer(
+            @NotNull @DefaultValue("10ms") Duration linger,
+            @Positive @DefaultValue("65536") int batchSize,
+            @Pattern(regexp = "none|gzip|snappy|lz4|zstd") @DefaultValue("lz4") String compressionType,
+            @Positive @DefaultValue("33554432") long bufferMemory,
+            @NotNull @DefaultValue("5s") Duration maxBlock
+    ) {
+    }
 }
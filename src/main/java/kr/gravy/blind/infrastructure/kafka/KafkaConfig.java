@@ -1,12 +1,14 @@
 package kr.gravy.blind.infrastructure.kafka;
 
 import kr.gravy.blind.board.event.PostIndexingMessage;
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.gravy.blind.configuration.properties.KafkaProperties;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.context.annotation.Bean;
@@ -17,11 +19,13 @@ import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
-import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Configuration
@@ -29,6 +33,7 @@ import java.util.Map;
 public class KafkaConfig {
 
     private final KafkaProperties kafkaProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public NewTopic postIndexingTopic() {
@@ -46,30 +51,74 @@ public class KafkaConfig {
                 .build();
     }
 
+    /**
+     * 프로듀서 팩토리
+     * - 멱등 프로듀서 (acks=all): 재시도에도 파티션 내 중복/순서 역전 없음
+     * - linger/batch/압축: Outbox 릴레이 배치 발행이 파티션별 배치 1개로 묶여 압축 전송
+     * - Kafka 클라이언트 지표(kafka.producer.*: batch.size.avg, record.error.rate, request.latency.avg 등)를 Micrometer로 노출
+     */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
+        Map<String, Object> config = producerConfig();
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(config);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * - 전송 지연(send → ack) 타이머 spring.kafka.template (name, result, exception 태그)
+     */
+    @Bean
+    public KafkaTemplate<String, Object> kafkaTemplate() {
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
+        template.setMicrometerEnabled(true);
+        return template;
+    }
+
+    /**
+     * 역직렬화 실패 레코드 DLT 발행용 (원본 바이트 그대로 전송)
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> deadLetterBytesKafkaTemplate() {
+        Map<String, Object> config = producerConfig();
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(config);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return new KafkaTemplate<>(factory);
+    }
+
+    private Map<String, Object> producerConfig() {
+        KafkaProperties.Producer producer = kafkaProperties.producer();
+
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.bootstrapServers());
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        config.put(ProducerConfig.LINGER_MS_CONFIG, (int) producer.linger().toMillis());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.batchSize());
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.compressionType());
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, producer.bufferMemory());
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producer.maxBlock().toMillis());
+        return config;
     }
 
+    /**
+     * 컨슈머 팩토리
+     * - ErrorHandlingDeserializer: 역직렬화 실패 레코드를 null 값 + 예외 헤더로 전달 → poll 전체가 막히지 않고 해당 레코드만 DLT
+     */
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.bootstrapServers());
         config.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaProperties.consumer().groupId());
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "kr.gravy.blind.*");
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PostIndexingMessage.class.getName());
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -88,17 +137,48 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * 배치 리스너 컨테이너 팩토리 (poll 단위로 List 수신)
+     * - 게시글 인덱싱: poll당 1회 Bulk 요청, 오프셋은 배치 단위 커밋 (AckMode.BATCH)
+     * - 리스너가 BatchListenerFailedException(index)을 던지면 index 이전 레코드는 커밋,
+     *   index 레코드부터 재전달 → 재시도 소진 시 해당 레코드만 DLT
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(kafkaProperties.topic().partitions());
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(errorHandler(kafkaTemplate()));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+
+    /**
+     * 공통 에러 핸들러
+     * - 레코드 특정 실패(BatchListenerFailedException): 실패 레코드만 재시도 후 DLT, 나머지는 커밋
+     * - 배치 전체 실패(OpenSearch 장애 등): 지수 백오프로 배치 재시도 후 DLT
+     * - 역직렬화 실패(DeserializationException): 재시도 없이 원본 바이트를 DLT로
+     */
     @Bean
     public DefaultErrorHandler errorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, deadLetterBytesKafkaTemplate());
+        templates.put(Object.class, kafkaTemplate);
+
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
-                kafkaTemplate,
+                templates,
                 (record, ex) -> new TopicPartition(
                         KafkaConstants.POST_INDEXING_DLT,
                         record.partition()
                 )
         );
 
-        FixedBackOff fixedBackOff = new FixedBackOff(1000L, 3);
-        return new DefaultErrorHandler(recoverer, fixedBackOff);
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(KafkaConstants.CONSUMER_MAX_RETRIES);
+        backOff.setInitialInterval(KafkaConstants.CONSUMER_RETRY_INITIAL_INTERVAL_MILLIS);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(KafkaConstants.CONSUMER_RETRY_MAX_INTERVAL_MILLIS);
+        return new DefaultErrorHandler(recoverer, backOff);
     }
 }
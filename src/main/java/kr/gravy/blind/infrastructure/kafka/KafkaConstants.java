@@ -9,4 +9,24 @@ public final class KafkaConstants {
     public static final String POST_INDEXING_TOPIC = "post-indexing";
 
     public static final String POST_INDEXING_DLT = POST_INDEXING_TOPIC + "-dlt";
+
+    /**
+     * DLT 재처리 컨슈머 그룹 접미사 (인덱싱 그룹 ID + 접미사, 재처리 위치를 그룹 오프셋으로 보관)
+     */
+    public static final String DLT_REPLAY_GROUP_SUFFIX = "-dlt-replay";
+
+    /**
+     * 컨슈머 실패 재시도 횟수 (소진 시 DLT)
+     */
+    public static final int CONSUMER_MAX_RETRIES = 4;
+
+    /**
+     * 컨슈머 재시도 첫 대기 시간 (밀리초, 이후 2배씩 증가)
+     */
+    public static final long CONSUMER_RETRY_INITIAL_INTERVAL_MILLIS = 1_000L;
+
+    /**
+     * 컨슈머 재시도 최대 대기 시간 (밀리초)
+     */
+    public static final long CONSUMER_RETRY_MAX_INTERVAL_MILLIS = 10_000L;
 }
@@ -0,0 +1,76 @@
+package kr.gravy.blind.infrastructure.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 토픽 끝 오프셋 / 컨슈머 그룹 커밋 오프셋 비교
+ * - 특정 시점까지 발행된 메시지를 컨슈머가 모두 처리했는지 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaOffsetChecker {
+
+    private final KafkaAdmin kafkaAdmin;
+
+    /**
+     * 토픽의 파티션별 현재 끝 오프셋 (다음에 기록될 오프셋)
+     */
+    public Map<TopicPartition, Long> getEndOffsets(String topic) {
+        try (AdminClient adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+            Map<TopicPartition, OffsetSpec> request = adminClient.describeTopics(List.of(topic))
+                    .allTopicNames().get()
+                    .get(topic)
+                    .partitions().stream()
+                    .map(partition -> new TopicPartition(topic, partition.partition()))
+                    .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest()));
+
+            return adminClient.listOffsets(request).all().get().entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().offset()));
+
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Kafka 끝 오프셋 조회 실패: topic=" + topic, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Kafka 끝 오프셋 조회 중단: topic=" + topic, e);
+        }
+    }
+
+    /**
+     * 컨슈머 그룹이 주어진 오프셋까지 모두 커밋했는지 여부
+     *
+     * @param groupId       컨슈머 그룹
+     * @param targetOffsets 파티션별 목표 오프셋
+     */
+    public boolean hasConsumedUpTo(String groupId, Map<TopicPartition, Long> targetOffsets) {
+        try (AdminClient adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+            Map<TopicPartition, OffsetAndMetadata> committed = adminClient.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata().get();
+
+            return targetOffsets.entrySet().stream().allMatch(target -> {
+                OffsetAndMetadata offset = committed.get(target.getKey());
+                long committedOffset = offset != null ? offset.offset() : 0L;
+                return committedOffset >= target.getValue();
+            });
+
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Kafka 컨슈머 그룹 오프셋 조회 실패: groupId=" + groupId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Kafka 컨슈머 그룹 오프셋 조회 중단: groupId=" + groupId, e);
+        }
+    }
+}
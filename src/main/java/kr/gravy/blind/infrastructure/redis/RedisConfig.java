@@ -2,6 +2,7 @@ package kr.gravy.blind.infrastructure.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.gravy.blind.board.listener.PostDetailCacheInvalidationListener;
 import kr.gravy.blind.notification.dto.NotificationDto;
 import kr.gravy.blind.notification.listener.NotificationListener;
 import org.springframework.context.annotation.Bean;
@@ -47,20 +48,25 @@ public class RedisConfig {
 
     /**
      * Redis 메시지 리스너 컨테이너
-     * 알림 토픽을 구독하여 NotificationListener로 전달
+     * - 알림 토픽 → NotificationListener
+     * - 게시글 상세 캐시 무효화 토픽 → PostDetailCacheInvalidationListener
      *
-     * @param connectionFactory    Redis 연결 팩토리
-     * @param notificationListener 알림 리스너
+     * @param connectionFactory                  Redis 연결 팩토리
+     * @param notificationListener               알림 리스너
+     * @param postDetailCacheInvalidationListener 게시글 상세 캐시 무효화 리스너
      * @return RedisMessageListenerContainer
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            NotificationListener notificationListener) {
+            NotificationListener notificationListener,
+            PostDetailCacheInvalidationListener postDetailCacheInvalidationListener) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(notificationListener, new ChannelTopic(RedisConstants.NOTIFICATION_TOPIC));
+        container.addMessageListener(postDetailCacheInvalidationListener,
+                new ChannelTopic(RedisConstants.POST_DETAIL_INVALIDATION_TOPIC));
         return container;
     }
 }
@@ -1,7 +1,7 @@
 package kr.gravy.blind.infrastructure.redis;
 
 /**
- * Redis Pub/Sub 토픽 상수
+ * Redis Pub/Sub 토픽 및 키 상수
  */
 public final class RedisConstants {
 
@@ -14,4 +14,151 @@ public final class RedisConstants {
      * 모든 인스턴스가 구독하여 SSE로 전파
      */
     public static final String NOTIFICATION_TOPIC = "blind-notifications";
+
+    /**
+     * 게시글 조회수 증가분 (Hash: postId → 미반영 조회수)
+     * 조회 시 HINCRBY, 주기적으로 MySQL에 일괄 반영
+     */
+    public static final String POST_VIEW_PENDING_KEY = "board:post:view:pending";
+
+    /**
+     * MySQL 반영 중인 조회수 증가분 (pending 키를 RENAME한 스냅샷)
+     * 반영 도중 장애 시 다음 플러시에서 재처리
+     */
+    public static final String POST_VIEW_FLUSHING_KEY = "board:post:view:flushing";
+
+    /**
+     * 마지막 조회수 플러시 완료 시각 (epoch millis)
+     */
+    public static final String POST_VIEW_LAST_FLUSHED_AT_KEY = "board:post:view:last-flushed-at";
+
+    /**
+     * 조회수 플러시 분산 락
+     */
+    public static final String POST_VIEW_FLUSH_LOCK_KEY = "board:post:view:flush-lock";
+
+    /**
+     * 게시글 카운터 샤드 압축 분산 락
+     */
+    public static final String POST_COUNTER_COMPACTION_LOCK_KEY = "board:post:counter:compaction-lock";
+
+    /**
+     * 인기글 점수 (Sorted Set: postId → 시간 감쇠 점수)
+     */
+    public static final String HOT_POST_SCORE_KEY = "board:hot:score";
+
+    /**
+     * 인기글 점수 증가분 (Sorted Set: postId → 마지막 갱신 이후 가중 활동량)
+     */
+    public static final String HOT_POST_DELTA_KEY = "board:hot:delta";
+
+    /**
+     * 점수 반영 중인 증가분 (delta 키를 RENAME한 스냅샷)
+     */
+    public static final String HOT_POST_DELTA_PROCESSING_KEY = "board:hot:delta:processing";
+
+    /**
+     * 인기글 후보 작성 시각 (Sorted Set: postId → 작성 시각 epoch millis)
+     * 후보 기간이 지난 게시글 제거용
+     */
+    public static final String HOT_POST_CREATED_AT_KEY = "board:hot:created-at";
+
+    /**
+     * 마지막 점수 감쇠 시각 (epoch millis)
+     */
+    public static final String HOT_POST_DECAYED_AT_KEY = "board:hot:decayed-at";
+
+    /**
+     * 점수순 인기글 목록 스냅샷 (JSON)
+     * /api/v1/posts/hot 조회 시 MySQL 대신 사용
+     */
+    public static final String HOT_POST_SNAPSHOT_KEY = "board:hot:snapshot";
+
+    /**
+     * 인기글 점수 갱신 분산 락
+     */
+    public static final String HOT_POST_REFRESH_LOCK_KEY = "board:hot:refresh-lock";
+
+    /**
+     * 카테고리 피드 첫 페이지 캐시 (페이지 기반, JSON)
+     * 키: board:feed:page:{category}
+     */
+    public static final String FEED_FIRST_PAGE_KEY_PREFIX = "board:feed:page:";
+
+    /**
+     * 카테고리 피드 첫 페이지 캐시 (커서 기반, JSON)
+     * 키: board:feed:cursor:{category}
+     */
+    public static final String FEED_FIRST_CURSOR_PAGE_KEY_PREFIX = "board:feed:cursor:";
+
+    /**
+     * 게시글 상세 캐시 (불변 필드 JSON)
+     * 키: board:post:detail:{publicId}
+     */
+    public static final String POST_DETAIL_KEY_PREFIX = "board:post:detail:";
+
+    /**
+     * 게시글 상세 로컬 캐시 무효화 토픽
+     * 모든 인스턴스가 구독하여 Near Cache 항목 제거
+     */
+    public static final String POST_DETAIL_INVALIDATION_TOPIC = "blind-post-detail-invalidation";
+
+    /**
+     * 검색 전체 재인덱싱 체크포인트 (마지막으로 반영 완료된 게시글 id)
+     * 키: board:search:reindex:checkpoint:{대상 인덱스}
+     */
+    public static final String SEARCH_REINDEX_CHECKPOINT_KEY_PREFIX = "board:search:reindex:checkpoint:";
+
+    /**
+     * 검색 전체 재인덱싱 분산 락
+     */
+    public static final String SEARCH_REINDEX_LOCK_KEY = "board:search:reindex:lock";
+
+    /**
+     * 검색 인덱스 재구축 대상 (설정된 동안 모든 인스턴스의 컨슈머가 이 인덱스에도 이중 기록)
+     */
+    public static final String SEARCH_REBUILD_TARGET_KEY = "board:search:rebuild-target";
+
+    /**
+     * 검색 결과 캐시 (JSON)
+     * 키: board:search:result:{카테고리|ALL}:{세대}:{정렬}:{page}:{size}:{정규화 키워드}
+     */
+    public static final String SEARCH_RESULT_KEY_PREFIX = "board:search:result:";
+
+    /**
+     * 검색 결과 캐시 세대 카운터 (인덱싱 반영 시 INCR → 이전 세대 캐시는 조회되지 않고 TTL로 소멸)
+     * 키: board:search:generation:{카테고리|ALL}
+     */
+    public static final String SEARCH_GENERATION_KEY_PREFIX = "board:search:generation:";
+
+    /**
+     * 공감/댓글 수가 바뀌어 검색 Document 갱신이 필요한 게시글 (Set, 멤버: publicId)
+     */
+    public static final String SEARCH_COUNTER_DIRTY_KEY = "board:search:counter-dirty";
+
+    /**
+     * 사용자별 검색 Point in Time 생성 횟수 (고정 창, 첫 생성 시 TTL 설정)
+     * 키: board:search:pit-rate:{userId}
+     */
+    public static final String SEARCH_PIT_RATE_KEY_PREFIX = "board:search:pit-rate:";
+
+    /**
+     * 검색 Document 카운터 부분 갱신 분산 락
+     */
+    public static final String SEARCH_COUNTER_SYNC_LOCK_KEY = "board:search:counter-sync-lock";
+
+    /**
+     * 검색 인덱싱 DLT 재처리 분산 락
+     */
+    public static final String SEARCH_DLT_REPLAY_LOCK_KEY = "board:search:dlt-replay:lock";
+
+    /**
+     * MySQL/검색 인덱스 정합성 점검 분산 락
+     */
+    public static final String SEARCH_AUDIT_LOCK_KEY = "board:search:audit:lock";
+
+    /**
+     * 정합성 점검 진행 위치 (마지막으로 점검한 게시글 ID, 인스턴스 교체/재시작 후 이어서 점검)
+     */
+    public static final String SEARCH_AUDIT_CURSOR_KEY = "board:search:audit:cursor";
 }
@@ -0,0 +1,147 @@
+package kr.gravy.blind.infrastructure.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Redis JSON 캐시
+ * - 값은 JSON 문자열로 저장 (Spring 기본 ObjectMapper 사용)
+ * - Redis 장애/역직렬화 실패 시 캐시 미스로 처리 → 원본 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisJsonCache {
+
+    /**
+     * 무효화 표시 값 (JSON으로 직렬화될 수 없는 문자열 → 캐시 값과 구분)
+     */
+    private static final String TOMBSTONE = "__tombstone__";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param key  캐시 키
+     * @param type 값 타입
+     * @return 캐시 값 (없거나 조회 실패 시 empty)
+     */
+    public <T> Optional<T> get(String key, TypeReference<T> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, type));
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패, 미스로 처리 - key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param key   캐시 키
+     * @param value 저장할 값
+     * @param ttl   만료 시간
+     */
+    public void put(String key, Object value, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.error("캐시 직렬화 실패 - key: {}", key, e);
+        } catch (Exception e) {
+            log.warn("캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 캐시 조회, 미스 시 loader 결과 저장 후 반환
+     *
+     * @param key    캐시 키
+     * @param type   값 타입
+     * @param ttl    만료 시간
+     * @param loader 원본 조회
+     * @return 캐시 값 또는 원본 조회 결과
+     */
+    public <T> T getOrLoad(String key, TypeReference<T> type, Duration ttl, Supplier<T> loader) {
+        return get(key, type).orElseGet(() -> {
+            T value = loader.get();
+            put(key, value, ttl);
+            return value;
+        });
+    }
+
+    /**
+     * 캐시 조회, 미스 시 loader 결과를 키가 비어 있을 때만 저장 (SET NX)
+     * - 무효화 표시가 있으면 저장 없이 원본 조회 결과 반환
+     * - 무효화 이전에 읽은 원본 값이 무효화 이후 늦게 저장되어 TTL 동안 남는 경쟁 방지 (invalidate와 함께 사용)
+     *
+     * @param key    캐시 키
+     * @param type   값 타입
+     * @param ttl    만료 시간
+     * @param loader 원본 조회
+     * @return 캐시 값 또는 원본 조회 결과
+     */
+    public <T> T getOrLoadIfAbsent(String key, TypeReference<T> type, Duration ttl, Supplier<T> loader) {
+        String json;
+        try {
+            json = stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패, 미스로 처리 - key: {}", key, e);
+            return loader.get();
+        }
+
+        if (TOMBSTONE.equals(json)) {
+            return loader.get();
+        }
+        if (json != null) {
+            try {
+                return objectMapper.readValue(json, type);
+            } catch (Exception e) {
+                log.warn("캐시 역직렬화 실패, 미스로 처리 - key: {}", key, e);
+            }
+        }
+
+        T value = loader.get();
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.error("캐시 직렬화 실패 - key: {}", key, e);
+        } catch (Exception e) {
+            log.warn("캐시 저장 실패 - key: {}", key, e);
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 값을 무효화 표시로 교체 (표시가 남아 있는 동안 getOrLoadIfAbsent는 저장하지 않음)
+     *
+     * @param key          캐시 키
+     * @param tombstoneTtl 무효화 표시 유지 시간 (진행 중인 원본 조회가 끝날 때까지)
+     */
+    public void invalidate(String key, Duration tombstoneTtl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, TOMBSTONE, tombstoneTtl);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * @param keys 삭제할 캐시 키
+     */
+    public void evict(Collection<String> keys) {
+        try {
+            stringRedisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("캐시 삭제 실패 - keys: {}", keys, e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package kr.gravy.blind.infrastructure.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 분산 락
+ * - 다중 인스턴스에서 스케줄링 작업을 한 인스턴스만 실행하도록 보장
+ * - SET NX PX 획득, 소유자 토큰 비교 후 해제 (다른 인스턴스의 락 해제 방지)
+ * - 장시간 작업은 짧은 TTL + 하트비트 연장 (인스턴스가 죽으면 TTL 내에 락 해제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    // 하트비트 간격 = TTL / 3 (연장 1~2회 실패해도 만료 전 재시도 가능)
+    private static final int HEARTBEATS_PER_TTL = 3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-lock-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 락 획득 시에만 작업 실행
+     *
+     * @param lockKey 락 키
+     * @param ttl     락 만료 시간 (작업 최대 소요 시간보다 길게 설정)
+     * @param task    실행할 작업
+     * @return 락 획득(작업 실행) 여부
+     */
+    public boolean executeWithLock(String lockKey, Duration ttl, Runnable task) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, ttl);
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("락 획득 실패, 작업 스킵 - lockKey: {}", lockKey);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+    /**
+     * 락 획득 시에만 작업 실행, 실행 중에는 하트비트로 TTL 연장
+     * - 작업 소요 시간과 무관하게 짧은 TTL 사용 가능 → 인스턴스 종료 시 락이 오래 남지 않음
+     * - 연장 시점에 토큰이 다르거나 키가 없으면 (만료 후 다른 인스턴스 획득) onLockLost 호출 후 연장 중단
+     *
+     * @param lockKey    락 키
+     * @param ttl        락 만료 시간 (하트비트 간격의 기준, TTL / 3마다 연장)
+     * @param onLockLost 락 상실 시 호출 (작업 중단 신호 등, 하트비트 스레드에서 실행)
+     * @param task       실행할 작업
+     * @return 락 획득(작업 실행) 여부
+     */
+    public boolean executeWithRenewableLock(String lockKey, Duration ttl, Runnable onLockLost, Runnable task) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, ttl);
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("락 획득 실패, 작업 스킵 - lockKey: {}", lockKey);
+            return false;
+        }
+
+        long intervalMillis = Math.max(1L, ttl.toMillis() / HEARTBEATS_PER_TTL);
+        ScheduledFuture<?>[] heartbeat = new ScheduledFuture<?>[1];
+        heartbeat[0] = heartbeatScheduler.scheduleAtFixedRate(() -> {
+            try {
+                Long extended = stringRedisTemplate.execute(
+                        EXTEND_SCRIPT, List.of(lockKey), token, String.valueOf(ttl.toMillis()));
+                if (extended == null || extended == 0L) {
+                    log.error("락 상실, 연장 중단 - lockKey: {}", lockKey);
+                    heartbeat[0].cancel(false);
+                    onLockLost.run();
+                }
+            } catch (Exception e) {
+                // 일시 장애: 다음 하트비트에서 재시도 (TTL 내 복구되면 락 유지)
+                log.warn("락 연장 실패, 다음 주기 재시도 - lockKey: {}", lockKey, e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            heartbeat[0].cancel(false);
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+}
@@ -1,7 +1,10 @@
 package kr.gravy.blind.user.repository;
 
 import kr.gravy.blind.user.entity.UserProfile;
+import kr.gravy.blind.user.model.Gender;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -17,4 +20,10 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
      * 프로필 수정 시 자기 자신 제외하고 체크
      */
     boolean existsByNicknameAndUserIdNot(String nickname, Long userId);
+
+    /**
+     * User ID로 성별만 조회 (검색 접근 제어용, 프로필 엔티티 로딩 없음)
+     */
+    @Query("SELECT p.gender FROM UserProfile p WHERE p.user.id = :userId")
+    Optional<Gender> findGenderByUserId(@Param("userId") Long userId);
 }
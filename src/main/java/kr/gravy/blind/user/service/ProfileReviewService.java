@@ -37,6 +37,7 @@ public class ProfileReviewService {
     private final UserImagePendingRepository userImagePendingRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final ProfileImageService profileImageService;
+    private final UserGenderCacheService userGenderCacheService;
 
     /**
      * 프로필 승인 메서드
@@ -88,6 +89,7 @@ public class ProfileReviewService {
         // 3. 공통 처리
         cleanupPendingData(pending, pendingImages);
         user.updateStatus(UserStatus.APPROVED);
+        userGenderCacheService.evict(user.getId());  // 수정 승인으로 성별이 바뀔 수 있음
 
         // 4. SSE 알림
         applicationEventPublisher.publishEvent(
@@ -0,0 +1,79 @@
+package kr.gravy.blind.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.gravy.blind.common.exception.BlindException;
+import kr.gravy.blind.user.model.Gender;
+import kr.gravy.blind.user.repository.UserProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static kr.gravy.blind.common.exception.Status.PROFILE_NOT_FOUND;
+
+/**
+ * 사용자 성별 로컬 캐시 (검색 접근 제어용)
+ * - 검색/자동완성 요청마다 프로필을 조회하지 않도록 userId → Gender 캐시
+ * - 프로필 수정 승인 시 커밋 후 무효화, 다른 인스턴스는 TTL 만료로 반영
+ */
+@Slf4j
+@Service
+public class UserGenderCacheService {
+
+    private static final long CACHE_MAX_SIZE = 50_000L;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+
+    private final UserProfileRepository userProfileRepository;
+
+    private final Cache<Long, Gender> genderCache;
+
+    public UserGenderCacheService(UserProfileRepository userProfileRepository, MeterRegistry meterRegistry) {
+        this.userProfileRepository = userProfileRepository;
+
+        this.genderCache = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .expireAfterWrite(CACHE_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, genderCache, "userGenderCache");
+    }
+
+    /**
+     * @param userId 사용자 ID
+     * @return 승인된 프로필의 성별
+     * @throws BlindException PROFILE_NOT_FOUND
+     */
+    public Gender getGender(Long userId) {
+        // 로더가 null 반환 시 캐시하지 않음 → 프로필 생성 직후 다시 조회됨
+        Gender gender = genderCache.get(userId, id -> userProfileRepository.findGenderByUserId(id).orElse(null));
+        if (gender == null) {
+            throw new BlindException(PROFILE_NOT_FOUND);
+        }
+        return gender;
+    }
+
+    /**
+     * 캐시 무효화 (트랜잭션 중이면 커밋 후 → 커밋 전 재조회로 이전 값이 다시 캐시되는 것 방지)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            genderCache.invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                genderCache.invalidate(userId);
+                log.debug("사용자 성별 캐시 무효화 - userId: {}", userId);
+            }
+        });
+    }
+}
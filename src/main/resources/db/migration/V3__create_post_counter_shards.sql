@@ -0,0 +1,17 @@
+-- ===========================================================================================
+-- 게시글 카운터 샤딩 (인기 게시글 like_count/comment_count 단일 행 락 경합 분산)
+-- ===========================================================================================
+
+ALTER TABLE anonymous_posts
+    ADD COLUMN counter_sharded BOOLEAN NOT NULL DEFAULT FALSE COMMENT '카운터 샤딩 모드 여부 (쓰기 빈도 임계치 초과 시 전환)';
+
+CREATE TABLE post_counter_shards
+(
+    post_id      BIGINT      NOT NULL COMMENT '게시글 ID',
+    counter_type VARCHAR(20) NOT NULL COMMENT '카운터 종류 (LIKE, COMMENT)',
+    shard_no     TINYINT     NOT NULL COMMENT '샤드 번호 (쓰기 시 무작위 선택)',
+    delta        INT         NOT NULL COMMENT 'anonymous_posts에 아직 반영되지 않은 증감분',
+    updated_at   DATETIME    NOT NULL,
+
+    PRIMARY KEY (post_id, counter_type, shard_no)
+);
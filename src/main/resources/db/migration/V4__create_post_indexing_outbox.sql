@@ -0,0 +1,14 @@
+-- ===========================================================================================
+-- 게시글 인덱싱 Outbox (게시글 변경과 같은 트랜잭션에 기록 → 릴레이가 Kafka post-indexing으로 발행)
+-- ===========================================================================================
+
+CREATE TABLE post_indexing_outbox
+(
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    post_public_id BINARY(16) NOT NULL COMMENT '게시글 Public ID (Kafka 메시지 키)',
+    payload        TEXT       NOT NULL COMMENT 'PostIndexingMessage JSON',
+    created_at     DATETIME   NOT NULL,
+    sent_at        DATETIME NULL COMMENT 'Kafka 발행 완료 시각 (NULL이면 미발행)',
+
+    INDEX          idx_post_indexing_outbox_sent_at_id (sent_at, id)
+);
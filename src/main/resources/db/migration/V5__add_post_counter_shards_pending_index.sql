@@ -0,0 +1,9 @@
+-- ===========================================================================================
+-- 카운터 샤드 압축 대상 조회 인덱스
+-- - delta <> 0 조건은 인덱스를 탈 수 없어 압축 때마다 전체 샤드 행을 스캔 → 가상 컬럼 인덱스로 대상 게시글만 Seek
+-- - pending 값이 바뀌는 쓰기(0 ↔ 비0 전환)만 보조 인덱스를 갱신
+-- ===========================================================================================
+
+ALTER TABLE post_counter_shards
+    ADD COLUMN pending BOOLEAN AS (delta <> 0) VIRTUAL COMMENT '미압축 증감분 존재 여부',
+    ADD INDEX idx_post_counter_shards_pending_post_id (pending, post_id);
@@ -0,0 +1,13 @@
+-- ===========================================================================================
+-- 인덱싱 Outbox 선점(lease) + 발행 불가 처리
+-- - 릴레이는 짧은 트랜잭션에서 claimed_until만 기록하고 커밋 → Kafka 전송/대기는 DB 트랜잭션 밖
+--   (잠금 읽기를 전송 동안 유지하면 인덱스 gap 락이 새 Outbox INSERT(게시글 작성/삭제)를 막음)
+-- - 역직렬화 불가 payload는 failed_at 기록 후 제외 (매 주기 재조회 방지, 정합성 점검이 검색 인덱스 복구)
+-- - 미발행 조회는 (sent_at, failed_at) 동등 조건 + id 순서로 인덱스 Seek
+-- ===========================================================================================
+
+ALTER TABLE post_indexing_outbox
+    ADD COLUMN claimed_until DATETIME NULL COMMENT '릴레이 선점 만료 시각 (NULL이거나 지났으면 선점 가능)',
+    ADD COLUMN failed_at     DATETIME NULL COMMENT '발행 불가 처리 시각 (역직렬화 실패, 재발행 대상 아님)',
+    DROP INDEX idx_post_indexing_outbox_sent_at_id,
+    ADD INDEX idx_post_indexing_outbox_pending (sent_at, failed_at, id);
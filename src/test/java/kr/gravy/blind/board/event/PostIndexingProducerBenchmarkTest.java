@@ -0,0 +1,128 @@
+package kr.gravy.blind.board.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.configuration.properties.KafkaProperties;
+import kr.gravy.blind.infrastructure.kafka.KafkaConfig;
+import kr.gravy.blind.infrastructure.kafka.KafkaConstants;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로듀서 설정별 발행 처리량 측정 (Embedded Kafka, KafkaConfig 프로듀서 그대로 사용)
+ * - Outbox 릴레이처럼 레코드를 연속 send 후 한 번에 완료 대기
+ * - 설정별 처리량/평균 배치 크기/압축률을 로그로 출력, 모든 레코드 ack 여부만 검증
+ * - 단일 브로커 로컬 측정이라 절대값보다 설정 간 상대 비교용
+ * - benchmark 태그: 일반 test 태스크에서 제외, ./gradlew benchmark 로 별도 실행
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 3, topics = KafkaConstants.POST_INDEXING_TOPIC)
+class PostIndexingProducerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PostIndexingProducerBenchmarkTest.class);
+
+    private static final int WARMUP_RECORDS = 500;
+    private static final int MEASURED_RECORDS = 5_000;
+    private static final long SEND_TIMEOUT_SECONDS = 60;
+
+    private static final List<Profile> PROFILES = List.of(
+            new Profile("unbatched", new KafkaProperties.Producer(
+                    Duration.ZERO, 16_384, "none", 33_554_432L, Duration.ofSeconds(5))),
+            new Profile("default(lz4)", new KafkaProperties.Producer(
+                    Duration.ofMillis(10), 65_536, "lz4", 33_554_432L, Duration.ofSeconds(5))),
+            new Profile("zstd", new KafkaProperties.Producer(
+                    Duration.ofMillis(10), 65_536, "zstd", 33_554_432L, Duration.ofSeconds(5))),
+            new Profile("large-batch(lz4)", new KafkaProperties.Producer(
+                    Duration.ofMillis(50), 262_144, "lz4", 33_554_432L, Duration.ofSeconds(5)))
+    );
+
+    @Test
+    void measureThroughputPerProducerProfile(EmbeddedKafkaBroker broker) throws Exception {
+        List<PostIndexingMessage> messages = createMessages(WARMUP_RECORDS + MEASURED_RECORDS);
+
+        for (Profile profile : PROFILES) {
+            KafkaConfig kafkaConfig = new KafkaConfig(
+                    new KafkaProperties(broker.getBrokersAsString(), null, null, profile.producer()),
+                    new SimpleMeterRegistry()
+            );
+            KafkaTemplate<String, Object> kafkaTemplate = kafkaConfig.kafkaTemplate();
+            try {
+                sendAll(kafkaTemplate, messages.subList(0, WARMUP_RECORDS));
+
+                long startNanos = System.nanoTime();
+                sendAll(kafkaTemplate, messages.subList(WARMUP_RECORDS, messages.size()));
+                long elapsedNanos = System.nanoTime() - startNanos;
+
+                double recordsPerSecond = MEASURED_RECORDS / (elapsedNanos / 1_000_000_000.0);
+                log.info("[producer-benchmark] {}: {} records/s, batch-size-avg={} bytes, compression-rate-avg={}, record-error-total={}",
+                        profile.name(),
+                        String.format("%,.0f", recordsPerSecond),
+                        String.format("%,.0f", metric(kafkaTemplate, "batch-size-avg")),
+                        String.format("%.2f", metric(kafkaTemplate, "compression-rate-avg")),
+                        String.format("%.0f", metric(kafkaTemplate, "record-error-total")));
+
+                assertThat(metric(kafkaTemplate, "record-error-total")).isZero();
+            } finally {
+                kafkaTemplate.getProducerFactory().reset();
+            }
+        }
+    }
+
+    private void sendAll(KafkaTemplate<String, Object> kafkaTemplate, List<PostIndexingMessage> messages)
+            throws Exception {
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(messages.size());
+        for (PostIndexingMessage message : messages) {
+            sends.add(kafkaTemplate.send(KafkaConstants.POST_INDEXING_TOPIC, message.publicId().toString(), message));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 실제 게시글과 비슷한 크기의 한글 본문 (압축률이 의미 있도록 반복 문구 포함)
+     */
+    private List<PostIndexingMessage> createMessages(int count) {
+        List<PostIndexingMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(PostIndexingMessage.forIndexing(
+                    UUID.randomUUID(),
+                    "주말에 같이 전시회 보러 가실 분 " + i,
+                    "이번 주말에 성수동 전시회 다녀오려고 하는데 같이 가실 분 계신가요? ".repeat(8) + i,
+                    PostCategory.values()[i % PostCategory.values().length],
+                    i % 3 == 0 ? "https://cdn.example.com/posts/" + i + ".jpg" : null,
+                    LocalDateTime.now()
+            ));
+        }
+        return messages;
+    }
+
+    private double metric(KafkaTemplate<String, Object> kafkaTemplate, String name) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : kafkaTemplate.metrics().entrySet()) {
+            if (entry.getKey().name().equals(name) && entry.getKey().group().equals("producer-metrics")) {
+                return ((Number) entry.getValue().metricValue()).doubleValue();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private record Profile(String name, KafkaProperties.Producer producer) {
+    }
+}
@@ -0,0 +1,121 @@
+package kr.gravy.blind.board.repository;
+
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.entity.PostImage;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.model.PostStatus;
+import kr.gravy.blind.board.support.MySqlTestContainerConfig;
+import kr.gravy.blind.board.support.SqlCaptureInspector;
+import kr.gravy.blind.user.model.Gender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 2단계 조회 회귀 테스트
+ * - ID 페이지는 SQL LIMIT으로 조회 (컬렉션 fetch join 메모리 페이징 HHH90003004 재발 방지)
+ * - 첫 이미지는 게시글 수와 무관하게 IN 쿼리 1회
+ */
+@DataJpaTest(properties = SqlCaptureInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlTestContainerConfig.class)
+class PostRepositoryPagingTest {
+
+    private static final int POST_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+    private static final List<PostStatus> STATUSES = List.of(PostStatus.ACTIVE);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 트랜잭션에서 저장 → created_at이 대부분 같은 초 (id 동순위 정렬도 함께 검증)
+        posts = IntStream.range(0, POST_COUNT)
+                .mapToObj(i -> entityManager.persist(
+                        Post.create(1L, Gender.MALE, PostCategory.FREE_TALK, "제목 " + i, "내용 " + i)))
+                .toList();
+        entityManager.persist(Post.create(1L, Gender.MALE, PostCategory.MEETUP, "다른 카테고리", "내용"));
+        for (Post post : posts) {
+            entityManager.persist(PostImage.create(post.getId(), "posts/" + post.getId() + "/1.jpg", "image/jpeg"));
+            entityManager.persist(PostImage.create(post.getId(), "posts/" + post.getId() + "/2.jpg", "image/jpeg"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리 ID 페이지는 SQL LIMIT으로 필요한 행만 조회한다")
+    void findIdsByCategoryAndStatusAppliesSqlLimit() {
+        Page<Long> page = postRepository.findIdsByCategoryAndStatus(
+                PostCategory.FREE_TALK, STATUSES, PageRequest.of(1, PAGE_SIZE));
+
+        List<Long> expected = posts.stream()
+                .sorted(Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed())
+                .map(Post::getId)
+                .skip(PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .toList();
+        assertThat(page.getContent()).containsExactlyElementsOf(expected);
+        assertThat(page.getTotalElements()).isEqualTo(POST_COUNT);
+
+        String idQuery = SqlCaptureInspector.statements().stream()
+                .filter(sql -> sql.toLowerCase().contains("order by"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(idQuery.toLowerCase())
+                .contains("limit")
+                .doesNotContain("anonymous_post_images");
+    }
+
+    @Test
+    @DisplayName("인기글/내 게시글 ID 페이지도 SQL LIMIT으로 조회한다")
+    void hotAndMyPostIdPagesApplySqlLimit() {
+        postRepository.findIdsByIsHotTrueAndStatus(STATUSES, PageRequest.of(0, PAGE_SIZE));
+        postRepository.findIdsByUserIdAndStatus(1L, STATUSES, PageRequest.of(0, PAGE_SIZE));
+
+        List<String> pageQueries = SqlCaptureInspector.statements().stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.contains("order by"))
+                .toList();
+        assertThat(pageQueries).hasSize(2).allSatisfy(sql -> assertThat(sql).contains("limit"));
+    }
+
+    @Test
+    @DisplayName("게시글별 첫 이미지는 IN 쿼리 1회로 조회한다")
+    void findFirstImagesByPostIdsRunsSingleQuery() {
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        List<PostImage> images = postImageRepository.findFirstImagesByPostIds(postIds);
+
+        Map<Long, String> s3KeyByPostId = images.stream()
+                .collect(Collectors.toMap(PostImage::getPostId, PostImage::getS3Key));
+        assertThat(s3KeyByPostId).hasSize(POST_COUNT);
+        posts.forEach(post -> assertThat(s3KeyByPostId.get(post.getId())).endsWith("/1.jpg"));
+        assertThat(SqlCaptureInspector.statements()).hasSize(1);
+    }
+}
@@ -0,0 +1,200 @@
+package kr.gravy.blind.board.service;
+
+import kr.gravy.blind.board.entity.Comment;
+import kr.gravy.blind.board.entity.Post;
+import kr.gravy.blind.board.model.PostCategory;
+import kr.gravy.blind.board.repository.CommentCounterJdbcRepository;
+import kr.gravy.blind.board.repository.CommentRepository;
+import kr.gravy.blind.board.repository.PostCounterJdbcRepository;
+import kr.gravy.blind.board.repository.PostRepository;
+import kr.gravy.blind.board.support.MySqlTestContainerConfig;
+import kr.gravy.blind.infrastructure.redis.RedisLockService;
+import kr.gravy.blind.user.entity.User;
+import kr.gravy.blind.user.model.Gender;
+import kr.gravy.blind.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공감/좋아요 토글 동시성 테스트 (INSERT IGNORE + 영향 행 수 판정)
+ * - 서로 다른 사용자의 동시 토글: 카운터 = 공감 행 수 = 사용자 수
+ * - 같은 사용자의 동시 중복 탭: 토글 2회로 상쇄, 카운터와 공감 행 수 일치
+ * - 스레드마다 별도 트랜잭션으로 커밋되도록 테스트 트랜잭션 비활성화
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        MySqlTestContainerConfig.class,
+        PostService.class,
+        CommentService.class,
+        PostCounterService.class,
+        PostCounterJdbcRepository.class,
+        CommentCounterJdbcRepository.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeToggleConcurrencyTest {
+
+    private static final int USER_COUNT = 40;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PostImageService postImageService;
+
+    @MockitoBean
+    private PostViewCountService postViewCountService;
+
+    @MockitoBean
+    private HotPostService hotPostService;
+
+    @MockitoBean
+    private PostFeedCacheService postFeedCacheService;
+
+    @MockitoBean
+    private PostDetailCacheService postDetailCacheService;
+
+    @MockitoBean
+    private PostIndexingOutboxService postIndexingOutboxService;
+
+    @MockitoBean
+    private PostSearchCounterSyncService postSearchCounterSyncService;
+
+    @MockitoBean
+    private AnonymousNicknameService anonymousNicknameService;
+
+    @MockitoBean
+    private RedisLockService redisLockService;
+
+    private List<User> users;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        users = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> User.create("test", "like-toggle-" + System.nanoTime() + "-" + i))
+                .toList());
+        post = postRepository.save(Post.create(users.get(0).getId(), Gender.MALE, PostCategory.FREE_TALK, "제목", "내용"));
+        comment = commentRepository.save(Comment.createComment(
+                post.getId(), users.get(0).getId(), Gender.MALE, "닉네임", "댓글"));
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자의 동시 게시글 공감은 모두 반영된다")
+    void concurrentPostLikesFromDistinctUsers() throws InterruptedException {
+        List<Throwable> failures = runConcurrently(users, user -> postService.toggleLike(post.getPublicId(), user));
+
+        assertThat(failures).isEmpty();
+        assertThat(postLikeRows()).isEqualTo(USER_COUNT);
+        assertThat(postLikeCount()).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 중복 탭은 실패 없이 상쇄되어 게시글 공감 행과 공감 수가 0이다")
+    void concurrentPostLikeDoubleTaps() throws InterruptedException {
+        List<Throwable> failures = runConcurrently(doubleTaps(), user -> postService.toggleLike(post.getPublicId(), user));
+
+        assertThat(failures).isEmpty();
+        assertThat(postLikeRows()).isZero();
+        assertThat(postLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 중복 탭은 실패 없이 상쇄되어 댓글 좋아요 행과 좋아요 수가 0이다")
+    void concurrentCommentLikeDoubleTaps() throws InterruptedException {
+        List<Throwable> failures = runConcurrently(doubleTaps(), user -> commentService.toggleLike(comment.getPublicId(), user));
+
+        int rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM anonymous_comment_likes WHERE comment_id = ?", Integer.class, comment.getId());
+        int likeCount = jdbcTemplate.queryForObject(
+                "SELECT like_count FROM anonymous_comments WHERE id = ?", Integer.class, comment.getId());
+        assertThat(failures).isEmpty();
+        assertThat(rows).isZero();
+        assertThat(likeCount).isZero();
+    }
+
+    private List<User> doubleTaps() {
+        List<User> taps = new ArrayList<>(users);
+        taps.addAll(users);
+        return taps;
+    }
+
+    private List<Throwable> runConcurrently(List<User> requesters, Consumer<User> toggle)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requesters.size());
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (User user : requesters) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    toggle.accept(user);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return List.copyOf(failures);
+    }
+
+    private int postLikeRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM anonymous_post_likes WHERE post_id = ?", Integer.class, post.getId());
+    }
+
+    /**
+     * anonymous_posts 값 + 미압축 샤드 증감분 (동시 쓰기가 샤딩 임계치를 넘을 수 있음)
+     */
+    private int postLikeCount() {
+        return postCounterService.getCounterState(post.getId()).counts().likeCount();
+    }
+}
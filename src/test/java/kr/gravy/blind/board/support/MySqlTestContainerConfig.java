@@ -0,0 +1,21 @@
+package kr.gravy.blind.board.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySQL Testcontainer (docker-compose와 같은 mysql:8.0, Flyway 마이그레이션 적용)
+ * - @ServiceConnection으로 DataSource 연결 정보 자동 주입
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlTestContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mySqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}